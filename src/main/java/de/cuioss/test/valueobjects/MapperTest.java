@@ -18,6 +18,7 @@ import java.util.TreeSet;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.valueobjects.api.VerifyMapperConfiguration;
@@ -26,6 +27,7 @@ import de.cuioss.test.valueobjects.api.property.PropertyConfigs;
 import de.cuioss.test.valueobjects.api.property.PropertyReflectionConfig;
 import de.cuioss.test.valueobjects.contract.MapperContractImpl;
 import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import de.cuioss.test.valueobjects.junit5.extension.GeneratorRandomController;
 import de.cuioss.test.valueobjects.objects.ParameterizedInstantiator;
 import de.cuioss.test.valueobjects.objects.RuntimeProperties;
 import de.cuioss.test.valueobjects.objects.TestObjectProvider;
@@ -75,6 +77,7 @@ import lombok.Getter;
  * @param <T> Target: The type of the source-Objects to be mapped to
  */
 @SuppressWarnings("squid:S2187") // Base class for tests
+@ExtendWith(GeneratorRandomController.class)
 public class MapperTest<M extends Function<S, T>, S, T> implements GeneratorRegistry, TestObjectProvider<M> {
 
     @Getter(AccessLevel.PROTECTED)
@@ -11,7 +11,9 @@ import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.generator.junit.GeneratorControllerExtension;
 import de.cuioss.test.valueobjects.api.property.PropertyConfig;
 import de.cuioss.test.valueobjects.api.property.PropertyConfigs;
+import de.cuioss.test.valueobjects.junit5.extension.GeneratorRandomController;
 import de.cuioss.test.valueobjects.junit5.extension.GeneratorRegistryController;
+import de.cuioss.test.valueobjects.junit5.extension.ScaleProfileController;
 import de.cuioss.test.valueobjects.property.PropertyMetadata;
 import de.cuioss.test.valueobjects.util.GeneratorRegistry;
 import de.cuioss.test.valueobjects.util.ReflectionHelper;
@@ -39,7 +41,8 @@ import lombok.Setter;
  * @author Oliver Wolff
  */
 @SuppressWarnings("squid:S2187") // owolff: this is a base class for concrete tests
-@ExtendWith({ GeneratorControllerExtension.class, GeneratorRegistryController.class })
+@ExtendWith({ GeneratorControllerExtension.class, GeneratorRandomController.class,
+        GeneratorRegistryController.class, ScaleProfileController.class })
 public class PropertyAwareTest<T> implements GeneratorRegistry {
 
     @Getter
@@ -66,4 +66,13 @@ public @interface ObjectTestConfig {
      *         objects should be used regarding the properties defaults to {@code false}
      */
     boolean toStringUseMinimalInstance() default false;
+
+    /**
+     * @return the size of the collections and arrays created for properties, see
+     *         {@link de.cuioss.test.valueobjects.generator.ScaleProfile}. Defaults to {@code 0},
+     *         saying the default sizes, or the ones configured by the system-property
+     *         {@value de.cuioss.test.valueobjects.generator.ScaleProfile#COLLECTION_SIZE_KEY} are
+     *         used
+     */
+    int collectionSize() default 0;
 }
@@ -0,0 +1,173 @@
+package de.cuioss.test.valueobjects.generator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import de.cuioss.test.generator.TypedGenerator;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Provides batch-operations for {@link TypedGenerator}s: Filling typed arrays or pre-sized
+ * collections with a given number of values in one call, without creating intermediate
+ * collections. Primitive arrays are filled directly, without boxing the array-elements. Sizes and
+ * primitive values are drawn from {@link GeneratorRandom}.
+ */
+@UtilityClass
+public class BatchGenerators {
+
+    private static final String GENERATOR_MUST_NOT_BE_NULL = "generator must not be null";
+
+    private static final String COMPONENT_TYPE_MUST_NOT_BE_NULL = "componentType must not be null";
+
+    /** Size of object-arrays, analogous to the default of the CollectionGenerator. */
+    private static final int MIN_OBJECT_SIZE = 2;
+    private static final int MAX_OBJECT_SIZE = 12;
+
+    /** Maximum size of primitive arrays, analogous to the PrimitiveArrayGenerators. */
+    private static final int MAX_PRIMITIVE_SIZE = 128;
+
+    /**
+     * Fills the given array completely with values of the given generator.
+     *
+     * @param generator to be used, must not be null
+     * @param target to be filled, must not be null
+     * @return the given target
+     */
+    public static <T> T[] fill(final TypedGenerator<? extends T> generator, final T[] target) {
+        requireNonNull(generator, GENERATOR_MUST_NOT_BE_NULL);
+        for (var i = 0; i < target.length; i++) {
+            target[i] = generator.next();
+        }
+        return target;
+    }
+
+    /**
+     * Adds the given number of values of the given generator to the given collection.
+     *
+     * @param generator to be used, must not be null
+     * @param target to be filled, must not be null. Should be pre-sized by the caller
+     * @param count the number of values to be added
+     * @return the given target
+     */
+    public static <T, C extends Collection<? super T>> C fill(final TypedGenerator<? extends T> generator,
+            final C target, final int count) {
+        requireNonNull(generator, GENERATOR_MUST_NOT_BE_NULL);
+        requireNonNull(target, "target must not be null");
+        for (var i = 0; i < count; i++) {
+            target.add(generator.next());
+        }
+        return target;
+    }
+
+    /**
+     * Creates an array of the given component-type, with a random size between 2 and 12 for
+     * object-types or between 0 and 128 for primitive types.
+     *
+     * @param generator for the elements of object-arrays, must not be null. It is ignored for
+     *            primitive types, see {@link #nextPrimitiveArray(Class, int)}
+     * @param componentType of the array to be created, must not be null
+     * @return the filled array
+     */
+    public static Object nextArray(final TypedGenerator<?> generator, final Class<?> componentType) {
+        requireNonNull(componentType, COMPONENT_TYPE_MUST_NOT_BE_NULL);
+        if (componentType.isPrimitive()) {
+            return nextPrimitiveArray(componentType, GeneratorRandom.current().nextInt(MAX_PRIMITIVE_SIZE + 1));
+        }
+        return nextArray(generator, componentType,
+                GeneratorRandom.current().nextInt(MIN_OBJECT_SIZE, MAX_OBJECT_SIZE + 1));
+    }
+
+    /**
+     * Creates an array of the given component-type and size.
+     *
+     * @param generator for the elements of object-arrays, must not be null. It is ignored for
+     *            primitive types, see {@link #nextPrimitiveArray(Class, int)}
+     * @param componentType of the array to be created, must not be null
+     * @param size of the array to be created
+     * @return the filled array
+     */
+    public static Object nextArray(final TypedGenerator<?> generator, final Class<?> componentType,
+            final int size) {
+        requireNonNull(componentType, COMPONENT_TYPE_MUST_NOT_BE_NULL);
+        if (componentType.isPrimitive()) {
+            return nextPrimitiveArray(componentType, size);
+        }
+        return fill(generator, (Object[]) Array.newInstance(componentType, size));
+    }
+
+    /**
+     * Creates a primitive array of the given component-type and size. The elements are written
+     * directly, without boxing, drawing from {@link GeneratorRandom#current()}. The ranges are the
+     * ones of the corresponding generators of {@link de.cuioss.test.generator.Generators}, e.g.
+     * {@code double} values between {@link Double#MIN_VALUE} and {@link Double#MAX_VALUE}.
+     *
+     * @param componentType must be a primitive type, but not {@code void}
+     * @param size of the array to be created
+     * @return the filled array, e.g. {@code int[]} for {@code int.class}
+     * @throws IllegalArgumentException in case the componentType is not a supported primitive
+     */
+    @SuppressWarnings("squid:S3776") // One branch per primitive type is intended
+    public static Object nextPrimitiveArray(final Class<?> componentType, final int size) {
+        requireNonNull(componentType, COMPONENT_TYPE_MUST_NOT_BE_NULL);
+        final var random = GeneratorRandom.current();
+        if (int.class == componentType) {
+            final var array = new int[size];
+            for (var i = 0; i < size; i++) {
+                array[i] = random.nextInt();
+            }
+            return array;
+        }
+        if (long.class == componentType) {
+            final var array = new long[size];
+            for (var i = 0; i < size; i++) {
+                array[i] = random.nextLong();
+            }
+            return array;
+        }
+        if (double.class == componentType) {
+            final var array = new double[size];
+            for (var i = 0; i < size; i++) {
+                array[i] = random.nextDouble(Double.MIN_VALUE, Double.MAX_VALUE);
+            }
+            return array;
+        }
+        if (float.class == componentType) {
+            final var array = new float[size];
+            for (var i = 0; i < size; i++) {
+                array[i] = (float) random.nextDouble(Float.MIN_VALUE, Float.MAX_VALUE);
+            }
+            return array;
+        }
+        if (boolean.class == componentType) {
+            final var array = new boolean[size];
+            for (var i = 0; i < size; i++) {
+                array[i] = random.nextBoolean();
+            }
+            return array;
+        }
+        if (byte.class == componentType) {
+            final var array = new byte[size];
+            for (var i = 0; i < size; i++) {
+                array[i] = (byte) random.nextInt();
+            }
+            return array;
+        }
+        if (char.class == componentType) {
+            final var array = new char[size];
+            for (var i = 0; i < size; i++) {
+                array[i] = (char) random.nextInt(Character.MAX_VALUE + 1);
+            }
+            return array;
+        }
+        if (short.class == componentType) {
+            final var array = new short[size];
+            for (var i = 0; i < size; i++) {
+                array[i] = (short) random.nextInt();
+            }
+            return array;
+        }
+        throw new IllegalArgumentException("No primitive array-type for " + componentType);
+    }
+}
@@ -0,0 +1,33 @@
+package de.cuioss.test.valueobjects.generator;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Optional capability of a {@link TypedGenerator}: It knows the size of its domain and is able to
+ * create a value that is not equal to a given one directly, without retries. Used for creating
+ * non-equal values within the equals / hashCode contract, see
+ * {@link de.cuioss.test.valueobjects.property.PropertySupport#createCopyWithNonEqualValue()}
+ *
+ * @param <T> identifying the type of objects to be generated
+ */
+public interface DistinctValueGenerator<T> extends TypedGenerator<T> {
+
+    /** Return-value of {@link #domainSize()} for unknown or unbounded domains. */
+    long UNKNOWN_DOMAIN = -1;
+
+    /**
+     * @return the number of distinct values this generator is able to produce or
+     *         {@link #UNKNOWN_DOMAIN}. A value smaller than {@code 2} indicates that
+     *         {@link #nextDistinctFrom(Object)} can not succeed.
+     */
+    default long domainSize() {
+        return UNKNOWN_DOMAIN;
+    }
+
+    /**
+     * @param value to be distinct from, must not be null
+     * @return a generated value that is not equal to the given one
+     * @throws IllegalStateException in case there is no such value
+     */
+    T nextDistinctFrom(T value);
+}
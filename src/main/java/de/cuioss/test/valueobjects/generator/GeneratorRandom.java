@@ -0,0 +1,104 @@
+package de.cuioss.test.valueobjects.generator;
+
+import java.util.SplittableRandom;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Source of randomness for the generators provided by this library. In contrast to a single
+ * shared {@link java.util.Random} each thread draws from its own {@link SplittableRandom},
+ * therefore generating values is free of contention across threads.
+ * <p>
+ * In the context of junit 5 the extension
+ * {@link de.cuioss.test.valueobjects.junit5.extension.GeneratorRandomController} determines a seed
+ * per test-class and binds a {@link SplittableRandom} derived from that seed for each test, see
+ * {@link #bind(SplittableRandom)}. Failing tests report the seed, that can be replayed by the
+ * system-property {@value #SEED_KEY}. Threads without a bound instance use a child split off a
+ * JVM-wide root.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GeneratorRandom {
+
+    /**
+     * System-property for replaying a seed, reported by a failing test.
+     */
+    public static final String SEED_KEY = "de.cuioss.test.valueobjects.generator.seed";
+
+    /** Increment used for deriving seeds, see {@link #deriveSeed(long, Object)} */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final SplittableRandom ROOT = new SplittableRandom(resolveSeed());
+
+    private static final ThreadLocal<SplittableRandom> FALLBACK = ThreadLocal.withInitial(GeneratorRandom::split);
+
+    private static final ThreadLocal<SplittableRandom> BOUND = new ThreadLocal<>();
+
+    /**
+     * @return the {@link SplittableRandom} for the current thread, never null. It must not be
+     *         passed to other threads
+     */
+    public static SplittableRandom current() {
+        final var bound = BOUND.get();
+        if (null != bound) {
+            return bound;
+        }
+        return FALLBACK.get();
+    }
+
+    /**
+     * @return the seed configured by {@value #SEED_KEY} or a random one
+     */
+    public static long resolveSeed() {
+        final var configured = Long.getLong(SEED_KEY);
+        if (null != configured) {
+            return configured;
+        }
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Derives a seed for an element, e.g. a single test, from the given seed. The result only
+     * depends on the parameter, not on the order of execution.
+     *
+     * @param seed to be derived from
+     * @param element identifying the element, must not be null
+     * @return the derived seed
+     */
+    public static long deriveSeed(final long seed, final Object element) {
+        return seed + GOLDEN_GAMMA * element.hashCode();
+    }
+
+    /**
+     * Binds the given {@link SplittableRandom} to the current thread.
+     *
+     * @param random to be bound, must not be null
+     * @return the previously bound instance, may be null. Must be passed to
+     *         {@link #restore(SplittableRandom)}
+     */
+    public static SplittableRandom bind(final SplittableRandom random) {
+        final var previous = BOUND.get();
+        BOUND.set(random);
+        return previous;
+    }
+
+    /**
+     * Restores the state prior to {@link #bind(SplittableRandom)}
+     *
+     * @param previous as returned by {@link #bind(SplittableRandom)}, may be null
+     */
+    public static void restore(final SplittableRandom previous) {
+        if (null == previous) {
+            BOUND.remove();
+        } else {
+            BOUND.set(previous);
+        }
+    }
+
+    private static SplittableRandom split() {
+        synchronized (ROOT) {
+            return ROOT.split();
+        }
+    }
+}
@@ -1,17 +1,11 @@
 package de.cuioss.test.valueobjects.generator;
 
-import static de.cuioss.test.generator.Generators.booleanObjects;
-import static de.cuioss.test.generator.Generators.booleans;
 import static de.cuioss.test.generator.Generators.byteObjects;
-import static de.cuioss.test.generator.Generators.bytes;
 import static de.cuioss.test.generator.Generators.characterObjects;
-import static de.cuioss.test.generator.Generators.characters;
 import static de.cuioss.test.generator.Generators.classTypes;
 import static de.cuioss.test.generator.Generators.dates;
 import static de.cuioss.test.generator.Generators.doubleObjects;
-import static de.cuioss.test.generator.Generators.doubles;
 import static de.cuioss.test.generator.Generators.floatObjects;
-import static de.cuioss.test.generator.Generators.floats;
 import static de.cuioss.test.generator.Generators.integerObjects;
 import static de.cuioss.test.generator.Generators.integers;
 import static de.cuioss.test.generator.Generators.letterStrings;
@@ -20,13 +14,11 @@ import static de.cuioss.test.generator.Generators.localDates;
 import static de.cuioss.test.generator.Generators.localTimes;
 import static de.cuioss.test.generator.Generators.locales;
 import static de.cuioss.test.generator.Generators.longObjects;
-import static de.cuioss.test.generator.Generators.longs;
 import static de.cuioss.test.generator.Generators.nonEmptyStrings;
 import static de.cuioss.test.generator.Generators.numbers;
 import static de.cuioss.test.generator.Generators.runtimeExceptions;
 import static de.cuioss.test.generator.Generators.serializables;
 import static de.cuioss.test.generator.Generators.shortObjects;
-import static de.cuioss.test.generator.Generators.shorts;
 import static de.cuioss.test.generator.Generators.temporals;
 import static de.cuioss.test.generator.Generators.throwables;
 import static de.cuioss.test.generator.Generators.timeZones;
@@ -39,10 +31,16 @@ import static de.cuioss.tools.collect.CollectionLiterals.immutableList;
 import static de.cuioss.tools.string.MoreStrings.nullToEmpty;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -52,8 +50,11 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
+import java.util.UUID;
 
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.impl.ValueTypeGenerators;
+import de.cuioss.test.valueobjects.generator.primitive.PrimitiveGenerators;
 import de.cuioss.test.valueobjects.property.PropertyMetadata;
 import de.cuioss.test.valueobjects.property.impl.PropertyMetadataImpl;
 import de.cuioss.test.valueobjects.property.impl.PropertyMetadataImpl.PropertyMetadataBuilder;
@@ -66,6 +67,15 @@ import de.cuioss.test.valueobjects.property.util.CollectionType;
  * instances. In case you want to to further configure the result you can access the corresponding
  * builder with {@link #metadataBuilder(String)}
  * </p>
+ * <p>
+ * Common value-types of the JDK, e.g. {@link UUID}, {@link Instant} or {@link BigDecimal}, are
+ * created by {@link ValueTypeGenerators}.
+ * </p>
+ * <p>
+ * The generators for primitives are specialized, e.g.
+ * {@link de.cuioss.test.valueobjects.generator.primitive.IntGenerator}, and create their values
+ * without boxing, see {@link PrimitiveGenerators}.
+ * </p>
  *
  * @author Oliver Wolff
  * @param <T> identifying the type to be generated
@@ -74,18 +84,20 @@ public final class JavaTypesGenerator<T> {
 
     private static final List<TypedGenerator<?>> GENERATORS = new ArrayList<>();
 
+    private static final List<TypedGenerator<?>> EXPENSIVE_GENERATORS = new ArrayList<>();
+
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Boolean}.
      */
     public static final JavaTypesGenerator<Boolean> BOOLEANS =
-        new JavaTypesGenerator<>(booleanObjects(), null);
+        new JavaTypesGenerator<>(PrimitiveGenerators.booleanObjects(), null);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for boolean-primitives with a default
      * value of <code>false</code>.
      */
     public static final JavaTypesGenerator<Boolean> BOOLEANS_PRIMITIVE =
-        new JavaTypesGenerator<>(booleans(), Boolean.FALSE);
+        new JavaTypesGenerator<>(PrimitiveGenerators.booleans(), Boolean.FALSE);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Byte}.
@@ -98,7 +110,7 @@ public final class JavaTypesGenerator<T> {
      * value of <code>0</code>.
      */
     public static final JavaTypesGenerator<Byte> BYTES_PRIMITIVE =
-        new JavaTypesGenerator<>(bytes(), (byte) 0);
+        new JavaTypesGenerator<>(PrimitiveGenerators.bytes(), (byte) 0);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Character}.
@@ -111,7 +123,7 @@ public final class JavaTypesGenerator<T> {
      * value of <code>\u0000</code>.
      */
     public static final JavaTypesGenerator<Character> CHARACTERS_PRIMITIVE =
-        new JavaTypesGenerator<>(characters(), '\u0000');
+        new JavaTypesGenerator<>(PrimitiveGenerators.characters(), '\u0000');
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Class}.
@@ -131,7 +143,7 @@ public final class JavaTypesGenerator<T> {
      * value of <code>0.0d</code>.
      */
     public static final JavaTypesGenerator<Double> DOUBLES_PRIMITIVE =
-        new JavaTypesGenerator<>(doubles(), 0.0d);
+        new JavaTypesGenerator<>(PrimitiveGenerators.doubles(), 0.0d);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Float}.
@@ -144,7 +156,7 @@ public final class JavaTypesGenerator<T> {
      * value of <code>0.0f</code>.
      */
     public static final JavaTypesGenerator<Float> FLOATS_PRIMITIVE =
-        new JavaTypesGenerator<>(floats(), 0.0f);
+        new JavaTypesGenerator<>(PrimitiveGenerators.floats(), 0.0f);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Integer}.
@@ -178,13 +190,13 @@ public final class JavaTypesGenerator<T> {
      * value of <code>0</code>.
      */
     public static final JavaTypesGenerator<Integer> INTEGERS_PRIMITIVE =
-        new JavaTypesGenerator<>(integers(), 0);
+        new JavaTypesGenerator<>(PrimitiveGenerators.integers(), 0);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Locale}.
      */
     public static final JavaTypesGenerator<Locale> LOCALES =
-        new JavaTypesGenerator<>(locales(), null);
+        new JavaTypesGenerator<>(locales(), null, true);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Long}.
@@ -197,7 +209,7 @@ public final class JavaTypesGenerator<T> {
      * value of <code>0l</code>.
      */
     public static final JavaTypesGenerator<Long> LONGS_PRIMITIVE =
-        new JavaTypesGenerator<>(longs(), 0L);
+        new JavaTypesGenerator<>(PrimitiveGenerators.longs(), 0L);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link Number}.
@@ -229,7 +241,7 @@ public final class JavaTypesGenerator<T> {
      * value of <code>0</code>.
      */
     public static final JavaTypesGenerator<Short> SHORTS_PRIMITIVE =
-        new JavaTypesGenerator<>(shorts(), (short) 0);
+        new JavaTypesGenerator<>(PrimitiveGenerators.shorts(), (short) 0);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link String}. The underlying
@@ -286,19 +298,19 @@ public final class JavaTypesGenerator<T> {
      * Creates an instance of of {@link PropertyMetadata} for {@link Temporal}.
      */
     public static final JavaTypesGenerator<Temporal> TEMPORAL =
-        new JavaTypesGenerator<>(temporals(), null);
+        new JavaTypesGenerator<>(temporals(), null, true);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link URL}.
      */
     public static final JavaTypesGenerator<URL> URLS =
-        new JavaTypesGenerator<>(urls(), null);
+        new JavaTypesGenerator<>(urls(), null, true);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link ZoneId}.
      */
     public static final JavaTypesGenerator<ZoneId> ZONE_IDS =
-        new JavaTypesGenerator<>(zoneIds(), null);
+        new JavaTypesGenerator<>(zoneIds(), null, true);
 
     /**
      * Creates an instance of of {@link PropertyMetadata} for {@link ZoneOffset}.
@@ -312,6 +324,48 @@ public final class JavaTypesGenerator<T> {
     public static final JavaTypesGenerator<ZonedDateTime> ZONED_DATE_TIME =
         new JavaTypesGenerator<>(zonedDateTimes(), null);
 
+    /**
+     * Creates an instance of of {@link PropertyMetadata} for {@link UUID}.
+     */
+    public static final JavaTypesGenerator<UUID> UUIDS =
+        new JavaTypesGenerator<>(ValueTypeGenerators.uuids(), null);
+
+    /**
+     * Creates an instance of of {@link PropertyMetadata} for {@link Instant}.
+     */
+    public static final JavaTypesGenerator<Instant> INSTANTS =
+        new JavaTypesGenerator<>(ValueTypeGenerators.instants(), null);
+
+    /**
+     * Creates an instance of of {@link PropertyMetadata} for {@link Duration}.
+     */
+    public static final JavaTypesGenerator<Duration> DURATIONS =
+        new JavaTypesGenerator<>(ValueTypeGenerators.durations(), null);
+
+    /**
+     * Creates an instance of of {@link PropertyMetadata} for {@link Period}.
+     */
+    public static final JavaTypesGenerator<Period> PERIODS =
+        new JavaTypesGenerator<>(ValueTypeGenerators.periods(), null);
+
+    /**
+     * Creates an instance of of {@link PropertyMetadata} for {@link BigDecimal}.
+     */
+    public static final JavaTypesGenerator<BigDecimal> BIG_DECIMALS =
+        new JavaTypesGenerator<>(ValueTypeGenerators.bigDecimals(), null);
+
+    /**
+     * Creates an instance of of {@link PropertyMetadata} for {@link BigInteger}.
+     */
+    public static final JavaTypesGenerator<BigInteger> BIG_INTEGERS =
+        new JavaTypesGenerator<>(ValueTypeGenerators.bigIntegers(), null);
+
+    /**
+     * Creates an instance of of {@link PropertyMetadata} for {@link OffsetDateTime}.
+     */
+    public static final JavaTypesGenerator<OffsetDateTime> OFFSET_DATE_TIMES =
+        new JavaTypesGenerator<>(ValueTypeGenerators.offsetDateTimes(), null);
+
     /** The concrete type of the object created by the generator. */
     private final Class<T> propertyType;
 
@@ -326,11 +380,19 @@ public final class JavaTypesGenerator<T> {
 
     private JavaTypesGenerator(final TypedGenerator<T> typedGenerator,
             final Object defaultValue) {
+        this(typedGenerator, defaultValue, false);
+    }
+
+    private JavaTypesGenerator(final TypedGenerator<T> typedGenerator,
+            final Object defaultValue, final boolean expensive) {
         this.propertyType = typedGenerator.getType();
         this.generator = typedGenerator;
         this.defaultValue = defaultValue;
 
         GENERATORS.add(typedGenerator);
+        if (expensive) {
+            EXPENSIVE_GENERATORS.add(typedGenerator);
+        }
     }
 
     /**
@@ -342,6 +404,19 @@ public final class JavaTypesGenerator<T> {
         return immutableList(GENERATORS);
     }
 
+    /**
+     * @return the subset of {@link #allGenerators()} being expensive per value, e.g. for
+     *         {@link Locale} or {@link URL}. These are candidates for being pooled, see
+     *         {@link de.cuioss.test.valueobjects.generator.impl.PooledGenerator}, therefore only
+     *         immutable types are contained. Mutable ones, e.g. {@link Throwable} or
+     *         {@link TimeZone}, are not, because pooled instances are shared JVM-wide.
+     */
+    @SuppressWarnings("squid:S1452") // All generators available, therefore the wildcard is
+                                     // needed
+    public static List<TypedGenerator<?>> expensiveGenerators() {
+        return immutableList(EXPENSIVE_GENERATORS);
+    }
+
     /**
      * Creates a configured instance of {@link PropertyMetadata}
      *
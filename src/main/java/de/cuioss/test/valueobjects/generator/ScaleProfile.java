@@ -0,0 +1,87 @@
+package de.cuioss.test.valueobjects.generator;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Scale profile for the collections and arrays created for properties: By default these are
+ * small, see {@link de.cuioss.test.generator.impl.CollectionGenerator} and
+ * {@link BatchGenerators}. Therefore quadratic implementations of e.g. {@link Object#equals(Object)}
+ * or {@link Object#hashCode()} pass the contract-tests. Configuring a collection-size lets all
+ * existing contracts run against collections of exactly that size.
+ * <p>
+ * The size is configured either JVM-wide by the system-property {@value #COLLECTION_SIZE_KEY} or
+ * per test-class by {@link de.cuioss.test.valueobjects.api.object.ObjectTestConfig#collectionSize()},
+ * that is bound to the executing thread by
+ * {@link de.cuioss.test.valueobjects.junit5.extension.ScaleProfileController}, see
+ * {@link #bind(Integer)}. It applies to collection- and array-properties, see
+ * {@link de.cuioss.test.valueobjects.property.PropertyMetadata#next()}, and to arrays created by
+ * {@link de.cuioss.test.valueobjects.generator.dynamic.impl.ArraysGenerator}. The nested
+ * collections of parameterized types, e.g. the elements of a {@code List<List<String>>}, keep
+ * their default size.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ScaleProfile {
+
+    /**
+     * System-property for configuring the size of the collections and arrays. Defaults to
+     * {@code 0}, saying the default sizes are used.
+     */
+    public static final String COLLECTION_SIZE_KEY = "de.cuioss.test.valueobjects.generator.collectionSize";
+
+    /** Indicates the default sizes to be used */
+    public static final int DEFAULT_SIZES = 0;
+
+    private static final ThreadLocal<Integer> BOUND = new ThreadLocal<>();
+
+    /**
+     * @return the collection-size bound to the current thread, or the one configured by
+     *         {@value #COLLECTION_SIZE_KEY}. {@value #DEFAULT_SIZES} indicates the default sizes
+     *         to be used
+     */
+    public static int collectionSize() {
+        final var bound = BOUND.get();
+        if (null != bound) {
+            return bound;
+        }
+        return Math.max(DEFAULT_SIZES, Integer.getInteger(COLLECTION_SIZE_KEY, DEFAULT_SIZES));
+    }
+
+    /**
+     * @return boolean indicating whether a collection-size is configured, see
+     *         {@link #collectionSize()}
+     */
+    public static boolean isScaled() {
+        return DEFAULT_SIZES != collectionSize();
+    }
+
+    /**
+     * Binds the given collection-size to the current thread, taking precedence over
+     * {@value #COLLECTION_SIZE_KEY}.
+     *
+     * @param collectionSize to be bound, must not be null nor negative
+     * @return the previously bound size, may be null. Must be passed to {@link #restore(Integer)}
+     */
+    public static Integer bind(final Integer collectionSize) {
+        if (collectionSize < 0) {
+            throw new IllegalArgumentException("collectionSize must not be negative, but was " + collectionSize);
+        }
+        final var previous = BOUND.get();
+        BOUND.set(collectionSize);
+        return previous;
+    }
+
+    /**
+     * Restores the state prior to {@link #bind(Integer)}
+     *
+     * @param previous as returned by {@link #bind(Integer)}, may be null
+     */
+    public static void restore(final Integer previous) {
+        if (null == previous) {
+            BOUND.remove();
+        } else {
+            BOUND.set(previous);
+        }
+    }
+}
@@ -3,21 +3,30 @@ package de.cuioss.test.valueobjects.generator;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
-import java.util.concurrent.ConcurrentHashMap;
 
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.valueobjects.generator.dynamic.impl.CollectionTypeGenerator;
+import de.cuioss.test.valueobjects.generator.impl.PooledGenerator;
 import de.cuioss.test.valueobjects.property.util.CollectionType;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 /**
  * Registry for instances of {@link TypedGenerator}
+ * <p>
+ * The registry itself is stateless: The actual generators are held by a
+ * {@link TypedGeneratorScope}. In case a scope is bound to the current thread, see
+ * {@link #bindScope(TypedGeneratorScope)}, all operations act on that scope, otherwise on a JVM-wide
+ * default scope. The junit-5 integration binds one scope per test-class, therefore test-classes can
+ * be run in parallel.
+ * </p>
  *
  * @author Oliver Wolff
  */
@@ -26,7 +35,70 @@ public final class TypedGeneratorRegistry {
 
     private static final String GENERATOR_MUST_NOT_BE_NULL = "generator must not be null";
     private static final String TYPE_MUST_NOT_BE_NULL = "type must not be null";
-    private static final Map<Class<?>, TypedGenerator<?>> REGISTRY = new ConcurrentHashMap<>();
+    private static final TypedGeneratorScope DEFAULT_SCOPE = new TypedGeneratorScope();
+    private static final ThreadLocal<TypedGeneratorScope> BOUND_SCOPE = new ThreadLocal<>();
+    private static final Map<Class<?>, TypedGenerator<?>> BASIC_TYPES = createBasicTypes();
+
+    /**
+     * @return a new, empty {@link TypedGeneratorScope} to be used with
+     *         {@link #bindScope(TypedGeneratorScope)}
+     */
+    public static TypedGeneratorScope createScope() {
+        return new TypedGeneratorScope();
+    }
+
+    /**
+     * Binds the given scope to the current thread. All subsequent operations of this registry
+     * called from the current thread act on the given scope until
+     * {@link #restoreScope(TypedGeneratorScope)} is called.
+     *
+     * @param scope to be bound, must not be null
+     * @return the previously bound scope, may be null. It is to be passed to
+     *         {@link #restoreScope(TypedGeneratorScope)}
+     */
+    public static TypedGeneratorScope bindScope(final TypedGeneratorScope scope) {
+        requireNonNull(scope, "scope must not be null");
+        final var previous = BOUND_SCOPE.get();
+        BOUND_SCOPE.set(scope);
+        return previous;
+    }
+
+    /**
+     * Restores the scope being bound to the current thread before calling
+     * {@link #bindScope(TypedGeneratorScope)}.
+     *
+     * @param previous as returned by {@link #bindScope(TypedGeneratorScope)}. In case it is
+     *            {@code null} the current thread falls back to the JVM-wide default scope.
+     */
+    public static void restoreScope(final TypedGeneratorScope previous) {
+        if (null == previous) {
+            BOUND_SCOPE.remove();
+        } else {
+            BOUND_SCOPE.set(previous);
+        }
+    }
+
+    private static TypedGeneratorScope registry() {
+        final var scope = BOUND_SCOPE.get();
+        if (null == scope) {
+            return DEFAULT_SCOPE;
+        }
+        return scope;
+    }
+
+    /**
+     * Identifies the state of the currently active {@link TypedGeneratorScope}: The returned
+     * token changes as soon as another scope is bound or a generator is registered for, or removed
+     * from, the active scope. Registering derived generators, see
+     * {@link #registerDerivedGenerator(TypedGenerator)}, does not change it. Therefore generators
+     * resolved by the {@link de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver} can
+     * be memoized as long as the token is identical.
+     *
+     * @return the current generation, to be compared by identity
+     */
+    public static Object getGeneration() {
+        return registry().getGeneration();
+    }
 
     /**
      * Checks whether the registry already contains a {@link TypedGenerator} for the given type
@@ -37,21 +109,46 @@ public final class TypedGeneratorRegistry {
      */
     public static boolean containsGenerator(final Class<?> type) {
         requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
-        return REGISTRY.containsKey(type);
+        return null != registry().get(type);
     }
 
     /**
      * @param type identifying the generator, must not be null
      * @return the registered {@link TypedGenerator} for the given type or {@link Optional#empty()}
-     *         if none could be found. Consider checking first: {@link #containsGenerator(Class)}
+     *         if none could be found.
      */
     @SuppressWarnings("unchecked")
     public static <T> Optional<TypedGenerator<T>> getGenerator(final Class<T> type) {
         requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
-        if (!REGISTRY.containsKey(type)) {
-            return Optional.empty();
-        }
-        return Optional.of((TypedGenerator<T>) REGISTRY.get(type));
+        return Optional.ofNullable((TypedGenerator<T>) registry().get(type));
+    }
+
+    /**
+     * Variant of {@link #getGenerator(Class)} that only considers generators that are registered
+     * explicitly, including the basic types. Generators derived by the
+     * {@link de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver}, see
+     * {@link #registerDerivedGenerator(TypedGenerator)}, are ignored.
+     *
+     * @param type identifying the generator, must not be null
+     * @return the explicitly registered {@link TypedGenerator} for the given type or
+     *         {@link Optional#empty()} if none could be found.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<TypedGenerator<T>> getExplicitGenerator(final Class<T> type) {
+        requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
+        return Optional.ofNullable((TypedGenerator<T>) registry().getExplicit(type));
+    }
+
+    /**
+     * Registers a generator that has been derived dynamically, see
+     * {@link de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver}. Lookups treat it
+     * like any other generator, but it is not considered by {@link #getExplicitGenerator(Class)}
+     *
+     * @param typedGenerator to be added to the registry, must not be null.
+     */
+    public static <T> void registerDerivedGenerator(final TypedGenerator<T> typedGenerator) {
+        requireNonNull(typedGenerator, GENERATOR_MUST_NOT_BE_NULL);
+        registry().putDerived(typedGenerator.getType(), typedGenerator);
     }
 
     /**
@@ -59,7 +156,7 @@ public final class TypedGeneratorRegistry {
      */
     public static <T> void registerGenerator(final TypedGenerator<T> typedGenerator) {
         requireNonNull(typedGenerator, GENERATOR_MUST_NOT_BE_NULL);
-        REGISTRY.put(typedGenerator.getType(), typedGenerator);
+        registry().put(typedGenerator.getType(), typedGenerator);
     }
 
     /**
@@ -70,7 +167,7 @@ public final class TypedGeneratorRegistry {
             final TypedGenerator<?> generator) {
         requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
         requireNonNull(generator, GENERATOR_MUST_NOT_BE_NULL);
-        REGISTRY.put(type, generator);
+        registry().put(type, generator);
     }
 
     /**
@@ -80,29 +177,50 @@ public final class TypedGeneratorRegistry {
      */
     public static <T> void removeGenerator(final Class<T> type) {
         requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
-        REGISTRY.remove(type);
+        registry().remove(type);
     }
 
     /**
-     * Clears the registry.
+     * Clears the registry, saying the currently active {@link TypedGeneratorScope}.
      */
     public static void clear() {
-        REGISTRY.clear();
+        registry().clear();
     }
 
     /**
      * Add all basic types provided by {@link JavaTypesGenerator}. In addition it adds
      * {@link TypedGenerator} for basic Collection-types returning an empty collection.
+     * <p>
+     * The basic types are created only once per JVM and shared as immutable layer between all
+     * {@link TypedGeneratorScope}s. Therefore calling this method is cheap.
+     * </p>
+     * <p>
+     * In case {@link PooledGenerator#POOL_SIZE_KEY} is configured, the
+     * {@link JavaTypesGenerator#expensiveGenerators()} are decorated with a
+     * {@link PooledGenerator}, that is warmed up while creating the basic types.
+     * </p>
      */
     public static void registerBasicTypes() {
-        JavaTypesGenerator.allGenerators().forEach(g -> REGISTRY.put(g.getType(), g));
-        REGISTRY.put(Collection.class,
+        registry().activateBasicTypes(BASIC_TYPES);
+    }
+
+    private static Map<Class<?>, TypedGenerator<?>> createBasicTypes() {
+        final Map<Class<?>, TypedGenerator<?>> basic = new HashMap<>();
+        JavaTypesGenerator.allGenerators().forEach(g -> basic.put(g.getType(), g));
+        for (final TypedGenerator<?> expensive : JavaTypesGenerator.expensiveGenerators()) {
+            // Only if not shadowed by a later generator for the same type
+            if (basic.get(expensive.getType()) == expensive) {
+                basic.put(expensive.getType(), PooledGenerator.pooled(expensive));
+            }
+        }
+        basic.put(Collection.class,
                 new CollectionTypeGenerator<>(Collection.class, CollectionType.COLLECTION));
-        REGISTRY.put(List.class,
+        basic.put(List.class,
                 new CollectionTypeGenerator<>(List.class, CollectionType.LIST));
-        REGISTRY.put(Set.class,
+        basic.put(Set.class,
                 new CollectionTypeGenerator<>(Set.class, CollectionType.SET));
-        REGISTRY.put(SortedSet.class,
+        basic.put(SortedSet.class,
                 new CollectionTypeGenerator<>(SortedSet.class, CollectionType.SORTED_SET));
+        return Collections.unmodifiableMap(basic);
     }
 }
@@ -0,0 +1,155 @@
+package de.cuioss.test.valueobjects.generator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.cuioss.test.generator.TypedGenerator;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An isolated set of {@link TypedGenerator}s used by the {@link TypedGeneratorRegistry}. As long as
+ * a scope is bound to the current thread, see
+ * {@link TypedGeneratorRegistry#bindScope(TypedGeneratorScope)}, all operations of the
+ * {@link TypedGeneratorRegistry} act on that scope instead of on the JVM-wide default one.
+ * Therefore test-classes running in parallel do not interfere with each other's generators.
+ * <p>
+ * A scope consists of two layers: The immutable basic types, that are shared JVM-wide and built
+ * only once, see {@link TypedGeneratorRegistry#registerBasicTypes()}, and a small overlay
+ * containing the generators registered for the scope. Lookups probe the overlay and fall back to
+ * the basic types.
+ * </p>
+ * <p>
+ * Generators within the overlay are either registered explicitly, e.g. by annotations, or derived
+ * by the {@link de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver}. The latter are
+ * tracked separately, see {@link TypedGeneratorRegistry#getExplicitGenerator(Class)}.
+ * </p>
+ * <p>
+ * Each change of the explicitly registered generators replaces the generation of the scope, see
+ * {@link TypedGeneratorRegistry#getGeneration()}. Registering derived generators does not.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+public final class TypedGeneratorScope {
+
+    /** Marks a basic type that has been explicitly removed from this scope. */
+    private static final TypedGenerator<?> REMOVED = () -> null;
+
+    private final Map<Class<?>, TypedGenerator<?>> overlay = new ConcurrentHashMap<>();
+
+    private final Set<Class<?>> derived = ConcurrentHashMap.newKeySet();
+
+    private volatile Map<Class<?>, TypedGenerator<?>> basicTypes = Map.of();
+
+    private volatile Object generation = new Object();
+
+    Object getGeneration() {
+        return generation;
+    }
+
+    private void nextGeneration() {
+        generation = new Object();
+    }
+
+    TypedGenerator<?> get(final Class<?> type) {
+        var found = overlay.get(type);
+        if (null == found) {
+            found = basicTypes.get(type);
+        }
+        if (REMOVED == found) {
+            return null;
+        }
+        return found;
+    }
+
+    TypedGenerator<?> getExplicit(final Class<?> type) {
+        if (derived.contains(type)) {
+            return null;
+        }
+        return get(type);
+    }
+
+    void put(final Class<?> type, final TypedGenerator<?> generator) {
+        overlay.put(type, generator);
+        derived.remove(type);
+        nextGeneration();
+    }
+
+    void putDerived(final Class<?> type, final TypedGenerator<?> generator) {
+        derived.add(type);
+        overlay.put(type, generator);
+    }
+
+    void remove(final Class<?> type) {
+        derived.remove(type);
+        if (basicTypes.containsKey(type)) {
+            overlay.put(type, REMOVED);
+        } else {
+            overlay.remove(type);
+        }
+        nextGeneration();
+    }
+
+    /**
+     * Activates the given basic types for this scope. Overlay-elements for the same types are
+     * dropped, because the basic types take precedence at the time of registering.
+     */
+    void activateBasicTypes(final Map<Class<?>, TypedGenerator<?>> basic) {
+        overlay.keySet().removeAll(basic.keySet());
+        derived.removeAll(basic.keySet());
+        basicTypes = basic;
+        nextGeneration();
+    }
+
+    /**
+     * @return an immutable copy of the current state of this scope, to be used with
+     *         {@link #restore(Snapshot)}
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(Map.copyOf(overlay), Set.copyOf(derived), basicTypes);
+    }
+
+    /**
+     * Resets this scope to the given state, dropping all generators registered after the snapshot
+     * has been taken.
+     *
+     * @param snapshot as returned by {@link #snapshot()}, must not be null
+     */
+    public void restore(final Snapshot snapshot) {
+        requireNonNull(snapshot, "snapshot must not be null");
+        overlay.clear();
+        overlay.putAll(snapshot.overlay);
+        derived.clear();
+        derived.addAll(snapshot.derived);
+        basicTypes = snapshot.basicTypes;
+        nextGeneration();
+    }
+
+    /**
+     * Removes all {@link TypedGenerator}s from this scope, including the basic types.
+     */
+    public void clear() {
+        overlay.clear();
+        derived.clear();
+        basicTypes = Map.of();
+        nextGeneration();
+    }
+
+    /**
+     * The state of a {@link TypedGeneratorScope}, see {@link TypedGeneratorScope#snapshot()}.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Snapshot {
+
+        private final Map<Class<?>, TypedGenerator<?>> overlay;
+
+        private final Set<Class<?>> derived;
+
+        private final Map<Class<?>, TypedGenerator<?>> basicTypes;
+    }
+
+}
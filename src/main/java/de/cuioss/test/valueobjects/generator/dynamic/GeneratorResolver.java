@@ -2,19 +2,25 @@ package de.cuioss.test.valueobjects.generator.dynamic;
 
 import static java.util.Objects.requireNonNull;
 
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
-import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.dynamic.ResolverStatistics.Stage;
 import de.cuioss.test.valueobjects.generator.dynamic.impl.ArraysGenerator;
 import de.cuioss.test.valueobjects.generator.dynamic.impl.CollectionTypeGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.EnumValuesGenerator;
 import de.cuioss.test.valueobjects.generator.dynamic.impl.ConstructorBasedGenerator;
 import de.cuioss.test.valueobjects.generator.dynamic.impl.DynamicProxyGenerator;
 import de.cuioss.test.valueobjects.generator.dynamic.impl.EmptyMapGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.FactoryBasedGenerator;
 import de.cuioss.test.valueobjects.generator.dynamic.impl.InterfaceProxyGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.LazyGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.ResolvingGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.SubclassGenerator;
 import de.cuioss.test.valueobjects.property.util.CollectionType;
 import de.cuioss.tools.logging.CuiLogger;
 import lombok.AccessLevel;
@@ -34,66 +40,185 @@ public final class GeneratorResolver {
 
     private static final CuiLogger log = new CuiLogger(GeneratorResolver.class);
 
+    /**
+     * System-property for configuring the maximum depth of nested resolutions, defaults to
+     * {@value #DEFAULT_MAX_DEPTH}. Types beyond that depth are bound to a {@link LazyGenerator}.
+     */
+    public static final String MAX_DEPTH_KEY = "de.cuioss.test.valueobjects.generator.maxDepth";
+
+    /** Default for {@link #MAX_DEPTH_KEY} */
+    public static final int DEFAULT_MAX_DEPTH = 32;
+
+    private static final int MAX_DEPTH = Integer.getInteger(MAX_DEPTH_KEY, DEFAULT_MAX_DEPTH);
+
     /**
      * Central method for finding / accessing a concrete {@link TypedGenerator} for the given type.
      * It works through all existing find methods. as last resort is uses
+     * {@link SubclassGenerator}, for types with known concrete subclasses, or
      * {@link InterfaceProxyGenerator} or {@link DynamicProxyGenerator} that will always return a
      * valid one
      * <em>Caution:</em> The resolving system relies on {@link TypedGeneratorRegistry} being
      * configured properly, saying {@link TypedGeneratorRegistry#registerBasicTypes()} has been
      * called prior to this method
+     * <p>
+     * The results of the structural strategies, saying enums, arrays, collections, builder- or
+     * factory-based and constructor-based ones, are cached JVM-wide, see {@link ResolutionPlanCache}. Therefore they
+     * survive clearing the {@link TypedGeneratorRegistry} and are only re-resolved in case an
+     * explicitly registered generator for one of their dependencies changes.
+     * </p>
+     * <p>
+     * Object-graphs are resolved cycle-safe: A type that is requested while it is already being
+     * resolved on the current thread, e.g. A(B) and B(A), or that exceeds the depth configured by
+     * {@link #MAX_DEPTH_KEY} is bound to a {@link LazyGenerator}, that resolves the actual
+     * generator on first usage.
+     * </p>
+     * <p>
+     * Each stage is instrumented, see {@link ResolverStatistics}
+     * </p>
      *
      * @param type must not be null
      * @return a concrete {@link TypedGenerator} for the given type
      */
+    @SuppressWarnings("unchecked") // Plans are stored by their type
     public static <T> TypedGenerator<T> resolveGenerator(final Class<T> type) {
         requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
         log.debug("resolving generator for {}", type.getName());
 
-        Optional<TypedGenerator<T>> found = TypedGeneratorRegistry.getGenerator(type);
-        if (found.isPresent()) {
-            log.trace(FOUND_GENERATOR_FOR_TYPE, found.get().getClass().getName(), type.getName());
-            return found.get();
+        var start = System.nanoTime();
+        final Optional<TypedGenerator<T>> registered = TypedGeneratorRegistry.getGenerator(type);
+        ResolutionPlanCache.recordRegistryLookup(type, registered.orElse(null));
+        if (ResolverStatistics.record(Stage.REGISTRY, start, registered)) {
+            log.trace(FOUND_GENERATOR_FOR_TYPE, registered.get().getClass().getName(), type.getName());
+            return registered.get();
         }
-        found = Generators.enumValuesIfAvailable(type);
-        if (found.isPresent()) {
-            TypedGeneratorRegistry.registerGenerator(found.get());
-            log.trace(FOUND_GENERATOR_FOR_TYPE, found.get().getClass().getName(), type.getName());
-            return found.get();
+        start = System.nanoTime();
+        final var plan = ResolutionPlanCache.lookup(type);
+        if (ResolverStatistics.record(Stage.PLAN_CACHE, start, null != plan)) {
+            final var planned = (TypedGenerator<T>) plan.getGenerator();
+            TypedGeneratorRegistry.registerDerivedGenerator(planned);
+            log.trace(FOUND_GENERATOR_FOR_TYPE, planned.getClass().getName(), type.getName());
+            return planned;
+        }
+        if (ResolutionPlanCache.isInProgress(type) || ResolutionPlanCache.getResolutionDepth() >= MAX_DEPTH) {
+            log.debug("Binding {} lazily, either being a back-edge or exceeding max-depth {}", type.getName(),
+                    MAX_DEPTH);
+            ResolverStatistics.record(Stage.LAZY, System.nanoTime(), true);
+            return new LazyGenerator<>(type);
+        }
+        ResolutionPlanCache.startResolution(type);
+        final TypedGenerator<T> resolved;
+        var structural = true;
+        try {
+            var found = resolveStructuralGenerator(type);
+            if (found.isEmpty()) {
+                structural = false;
+                found = Optional.of(resolveProxyGenerator(type));
+            }
+            resolved = found.get();
+        } catch (RuntimeException e) {
+            ResolutionPlanCache.abortResolution();
+            throw e;
+        }
+        ResolutionPlanCache.finishResolution(type, resolved, structural);
+        TypedGeneratorRegistry.registerDerivedGenerator(resolved);
+        log.trace(FOUND_GENERATOR_FOR_TYPE, resolved.getClass().getName(), type.getName());
+        return resolved;
+    }
+
+    /**
+     * @param type to be checked, must not be null
+     * @return boolean indicating whether the given type is currently being resolved on the current
+     *         thread. In that case it is a back-edge within the object-graph, that is bound to a
+     *         {@link LazyGenerator}
+     */
+    public static boolean isBeingResolved(final Class<?> type) {
+        requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
+        return ResolutionPlanCache.isInProgress(type);
+    }
+
+    /**
+     * Variant of {@link #resolveGenerator(Class)} for arbitrary generic types, e.g.
+     * {@code List<Map<String, X>>}: Parameterized collection- and map-interfaces as well as
+     * generic arrays are composed of the generators for their type-arguments, wildcards and
+     * type-variables are replaced by their bounds. All other types are resolved by their raw
+     * type.
+     * <p>
+     * The composed generators are built once per JVM for each distinct type. Their leaves resolve
+     * the generator for the actual class once per generation of the current scope, see
+     * {@link ResolvingGenerator}, therefore generators registered for the current scope are
+     * honored.
+     * </p>
+     *
+     * @param type must not be null
+     * @return a concrete {@link TypedGenerator} for the given type. Its
+     *         {@link TypedGenerator#getType()} returns the raw type.
+     */
+    @SuppressWarnings("squid:S1452") // No type information available at this level
+    public static TypedGenerator<?> resolveGenerator(final Type type) {
+        requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
+        return GenericTypeResolver.resolve(type);
+    }
+
+    /**
+     * Variant of {@link #resolveGenerator(Type)} that binds the generator lazily: Plain classes are
+     * bound to a {@link ResolvingGenerator}, generic types are composed with these as leaves.
+     * Therefore nothing is resolved until the first value is requested, and generators registered
+     * for the then current scope are honored. Used for the generators of scanned properties, that
+     * may never be used at all, e.g. because they are filtered by the test.
+     *
+     * @param type must not be null
+     * @return a {@link TypedGenerator} for the given type. Its {@link TypedGenerator#getType()}
+     *         returns the raw type.
+     */
+    @SuppressWarnings("squid:S1452") // No type information available at this level
+    public static TypedGenerator<?> resolveGeneratorLazily(final Type type) {
+        requireNonNull(type, TYPE_MUST_NOT_BE_NULL);
+        return GenericTypeResolver.element(type);
+    }
+
+    private static <T> Optional<TypedGenerator<T>> resolveStructuralGenerator(final Class<T> type) {
+        var start = System.nanoTime();
+        Optional<TypedGenerator<T>> found = EnumValuesGenerator.getGeneratorForType(type);
+        if (ResolverStatistics.record(Stage.ENUM, start, found)) {
+            return found;
         }
+        start = System.nanoTime();
         found = ArraysGenerator.getGeneratorForType(type);
-        if (found.isPresent()) {
-            TypedGeneratorRegistry.registerGenerator(found.get());
-            log.trace(FOUND_GENERATOR_FOR_TYPE, found.get().getClass().getName(), type.getName());
-            return found.get();
+        if (ResolverStatistics.record(Stage.ARRAY, start, found)) {
+            return found;
         }
+        start = System.nanoTime();
         found = resolveCollectionGenerator(type);
-        if (found.isPresent()) {
-            TypedGeneratorRegistry.registerGenerator(found.get());
-            log.trace(FOUND_GENERATOR_FOR_TYPE, found.get().getClass().getName(), type.getName());
-            return found.get();
+        if (ResolverStatistics.record(Stage.COLLECTION, start, found)) {
+            return found;
         }
-        found = ConstructorBasedGenerator.getGeneratorForType(type);
-        if (found.isPresent()) {
-            TypedGeneratorRegistry.registerGenerator(found.get());
-            log.trace(FOUND_GENERATOR_FOR_TYPE, found.get().getClass().getName(), type.getName());
-            return found.get();
+        start = System.nanoTime();
+        found = FactoryBasedGenerator.getGeneratorForType(type);
+        if (ResolverStatistics.record(Stage.FACTORY, start, found)) {
+            return found;
         }
-        return resolveProxyGenerator(type);
+        start = System.nanoTime();
+        found = ConstructorBasedGenerator.getGeneratorForType(type);
+        ResolverStatistics.record(Stage.CONSTRUCTOR, start, found);
+        return found;
     }
 
     private static <T> TypedGenerator<T> resolveProxyGenerator(final Class<T> type) {
         log.debug("resolveProxyGenerator for type {}", type.getName());
-        Optional<TypedGenerator<T>> found = InterfaceProxyGenerator.getGeneratorForType(type);
-        if (found.isPresent()) {
-            TypedGeneratorRegistry.registerGenerator(found.get());
-            log.trace(FOUND_GENERATOR_FOR_TYPE, found.get().getClass().getName(), type.getName());
+        var start = System.nanoTime();
+        Optional<TypedGenerator<T>> found = SubclassGenerator.getGeneratorForType(type);
+        if (ResolverStatistics.record(Stage.SUBCLASS, start, found)) {
             return found.get();
         }
+        start = System.nanoTime();
+        found = InterfaceProxyGenerator.getGeneratorForType(type);
+        if (ResolverStatistics.record(Stage.INTERFACE_PROXY, start, found)) {
+            return found.get();
+        }
+        start = System.nanoTime();
         found = DynamicProxyGenerator.getGeneratorForType(type);
-        if (found.isPresent()) {
-            TypedGeneratorRegistry.registerGenerator(found.get());
-            log.trace(FOUND_GENERATOR_FOR_TYPE, found.get().getClass().getName(), type.getName());
+        if (ResolverStatistics.record(Stage.DYNAMIC_PROXY, start, found)) {
+            ResolverStatistics.recordJavassistType(type);
             return found.get();
         }
         throw new IllegalArgumentException("Unable to determine generator for type=" + type);
@@ -113,14 +238,14 @@ public final class GeneratorResolver {
         if (null == type || !type.isInterface()) {
             return Optional.empty();
         }
+        if (Map.class.isAssignableFrom(type)) {
+            return Optional.of((TypedGenerator<T>) new EmptyMapGenerator());
+        }
         final var optional =
             CollectionType.findResponsibleCollectionType(type);
         if (optional.isPresent()) {
             return Optional.of(new CollectionTypeGenerator<>(type, optional.get()));
         }
-        if (Map.class.isAssignableFrom(type)) {
-            return Optional.of((TypedGenerator<T>) new EmptyMapGenerator());
-        }
         return Optional.empty();
     }
 }
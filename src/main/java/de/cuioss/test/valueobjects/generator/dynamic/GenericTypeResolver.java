@@ -0,0 +1,147 @@
+package de.cuioss.test.valueobjects.generator.dynamic;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.impl.CollectionGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.ArraysGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.MapEntryGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.ParameterizedCollectionGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.ResolvingGenerator;
+import de.cuioss.test.valueobjects.generator.impl.ValueTypeGenerators;
+import de.cuioss.test.valueobjects.property.util.CollectionType;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composes generators for generic types, see {@link GeneratorResolver#resolveGenerator(Type)}.
+ * <p>
+ * The composed generators are cached JVM-wide by their type, wildcards and type-variables are
+ * replaced by their bounds. Their leaves are {@link ResolvingGenerator}s, therefore the composed
+ * generators do not depend on the current
+ * {@link de.cuioss.test.valueobjects.generator.TypedGeneratorScope}. Recursive types, e.g.
+ * {@code T extends List<T>}, are cut by a {@link ResolvingGenerator} for the raw type.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class GenericTypeResolver {
+
+    private static final CuiLogger log = new CuiLogger(GenericTypeResolver.class);
+
+    private static final Map<Type, TypedGenerator<?>> COMPOSED = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Set<Type>> IN_PROGRESS = ThreadLocal.withInitial(HashSet::new);
+
+    /**
+     * @param type must not be null
+     * @return the generator for the given type. For plain classes it is resolved by
+     *         {@link GeneratorResolver#resolveGenerator(Class)}
+     */
+    static TypedGenerator<?> resolve(final Type type) {
+        final var canonical = canonicalize(type);
+        if (canonical instanceof Class) {
+            return GeneratorResolver.resolveGenerator((Class<?>) canonical);
+        }
+        return composed(canonical);
+    }
+
+    private static TypedGenerator<?> composed(final Type canonical) {
+        final var cached = COMPOSED.get(canonical);
+        if (null != cached) {
+            return cached;
+        }
+        final var inProgress = IN_PROGRESS.get();
+        if (!inProgress.add(canonical)) {
+            return new ResolvingGenerator<>(rawType(canonical));
+        }
+        // Not computeIfAbsent: Composing recursively accesses the map
+        final TypedGenerator<?> created;
+        try {
+            created = compose(canonical);
+        } finally {
+            inProgress.remove(canonical);
+        }
+        log.debug("Composed generator {} for {}", created, canonical.getTypeName());
+        final var previous = COMPOSED.putIfAbsent(canonical, created);
+        if (null != previous) {
+            return previous;
+        }
+        return created;
+    }
+
+    /**
+     * @param type must not be null
+     * @return the generator for the given type, without resolving anything eagerly: Plain
+     *         classes are bound to a {@link ResolvingGenerator}, generic types are composed
+     */
+    static TypedGenerator<?> element(final Type type) {
+        final var canonical = canonicalize(type);
+        if (canonical instanceof Class) {
+            return new ResolvingGenerator<>((Class<?>) canonical);
+        }
+        return composed(canonical);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" }) // The raw types are taken from the generic ones
+    private static TypedGenerator<?> compose(final Type canonical) {
+        if (canonical instanceof GenericArrayType) {
+            final var componentGenerator = element(((GenericArrayType) canonical).getGenericComponentType());
+            final Class componentType = componentGenerator.getType();
+            return new ArraysGenerator<>(Array.newInstance(componentType, 0).getClass(), componentType,
+                    new CollectionGenerator<>(componentGenerator));
+        }
+        final var parameterized = (ParameterizedType) canonical;
+        final Class rawType = (Class<?>) parameterized.getRawType();
+        final var arguments = parameterized.getActualTypeArguments();
+        final var collectionType = CollectionType.findResponsibleCollectionType(rawType);
+        if (Optional.class == rawType && 1 == arguments.length) {
+            return ValueTypeGenerators.optionals(element(arguments[0]));
+        }
+        if (collectionType.isPresent() && collectionType.get().isMapType() && 2 == arguments.length) {
+            return new ParameterizedCollectionGenerator<>(rawType, collectionType.get(),
+                    new CollectionGenerator<>(new MapEntryGenerator(element(arguments[0]), element(arguments[1]))));
+        }
+        if (collectionType.isPresent() && !collectionType.get().isMapType() && 1 == arguments.length) {
+            return new ParameterizedCollectionGenerator<>(rawType, collectionType.get(),
+                    new CollectionGenerator<>(element(arguments[0])));
+        }
+        return new ResolvingGenerator<>(rawType);
+    }
+
+    private static Class<?> rawType(final Type canonical) {
+        if (canonical instanceof GenericArrayType) {
+            return Object[].class;
+        }
+        return (Class<?>) ((ParameterizedType) canonical).getRawType();
+    }
+
+    /**
+     * @param type to be canonicalized
+     * @return the given type with wildcards and type-variables replaced by their bounds.
+     *         Parameterized types that do not contain any of these are returned as they are.
+     */
+    static Type canonicalize(final Type type) {
+        if (type instanceof WildcardType) {
+            final var wildcard = (WildcardType) type;
+            if (wildcard.getLowerBounds().length > 0) {
+                return canonicalize(wildcard.getLowerBounds()[0]);
+            }
+            return canonicalize(wildcard.getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return canonicalize(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return type;
+    }
+}
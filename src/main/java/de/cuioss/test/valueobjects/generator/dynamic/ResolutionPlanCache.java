@@ -0,0 +1,193 @@
+package de.cuioss.test.valueobjects.generator.dynamic;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JVM-wide cache for the {@link TypedGenerator}s derived by {@link GeneratorResolver}. In contrast
+ * to the {@link TypedGeneratorRegistry} it survives clearing / switching of
+ * {@link de.cuioss.test.valueobjects.generator.TypedGeneratorScope}s.
+ * <p>
+ * Each cached plan records its dependencies: The types that were looked up within the registry
+ * while resolving, together with the explicitly registered generator found at that time, see
+ * {@link TypedGeneratorRegistry#getExplicitGenerator(Class)}. A plan is only reused as long as
+ * all of its dependencies resolve to the identical explicit generators, saying it is implicitly
+ * invalidated as soon as a user-registered generator for one of these types changes.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ResolutionPlanCache {
+
+    private static final ClassValue<AtomicReference<ResolutionPlan>> PLANS = new ClassValue<>() {
+
+        @Override
+        protected AtomicReference<ResolutionPlan> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private static final ThreadLocal<Deque<DependencyRecorder>> RECORDERS =
+        ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * A resolved generator together with the registry state it depends on.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class ResolutionPlan {
+
+        @Getter
+        private final TypedGenerator<?> generator;
+
+        private final Map<Class<?>, TypedGenerator<?>> dependencies;
+
+        /**
+         * Only plans of structural strategies may be reused directly, the other ones are solely
+         * kept for tracking their dependencies.
+         */
+        @Getter
+        private final boolean reusable;
+
+        boolean isValid() {
+            for (final Map.Entry<Class<?>, TypedGenerator<?>> entry : dependencies.entrySet()) {
+                if (TypedGeneratorRegistry.getExplicitGenerator(entry.getKey()).orElse(null) != entry
+                        .getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class DependencyRecorder {
+
+        private final Class<?> type;
+
+        private final Map<Class<?>, TypedGenerator<?>> dependencies = new HashMap<>();
+
+        private boolean complete = true;
+    }
+
+    /**
+     * @param type to be looked up
+     * @return the cached reusable plan for the given type, if it is still valid, {@code null}
+     *         otherwise
+     */
+    static ResolutionPlan lookup(final Class<?> type) {
+        final var plan = PLANS.get(type).get();
+        if (null == plan || !plan.isReusable() || !plan.isValid()) {
+            return null;
+        }
+        recordPlan(plan);
+        return plan;
+    }
+
+    /**
+     * Records the result of a registry lookup for all resolutions currently in progress on this
+     * thread.
+     *
+     * @param type the looked up type
+     * @param found the generator found within the registry, may be null
+     */
+    static void recordRegistryLookup(final Class<?> type, final TypedGenerator<?> found) {
+        final var recorders = RECORDERS.get();
+        if (recorders.isEmpty()) {
+            return;
+        }
+        TypedGenerator<?> explicit = null;
+        if (null != found) {
+            explicit = TypedGeneratorRegistry.getExplicitGenerator(type).orElse(null);
+        }
+        for (final DependencyRecorder recorder : recorders) {
+            recorder.dependencies.putIfAbsent(type, explicit);
+        }
+        if (null != found && null == explicit) {
+            // Derived by an earlier resolution: Its dependencies are only known if it was planned
+            final var plan = PLANS.get(type).get();
+            if (null != plan && plan.getGenerator() == found) {
+                recordPlan(plan);
+            } else {
+                recorders.forEach(recorder -> recorder.complete = false);
+            }
+        }
+    }
+
+    /**
+     * Starts recording the dependencies of a resolution. Must always be followed by
+     * {@link #finishResolution(Class, TypedGenerator, boolean)} or {@link #abortResolution()}
+     *
+     * @param type the type to be resolved
+     */
+    static void startResolution(final Class<?> type) {
+        RECORDERS.get().push(new DependencyRecorder(type));
+    }
+
+    /**
+     * @param type to be checked
+     * @return boolean indicating whether the given type is currently being resolved on this
+     *         thread, saying it is a back-edge within the object-graph
+     */
+    static boolean isInProgress(final Class<?> type) {
+        for (final DependencyRecorder recorder : RECORDERS.get()) {
+            if (recorder.type == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of resolutions currently in progress on this thread
+     */
+    static int getResolutionDepth() {
+        return RECORDERS.get().size();
+    }
+
+    /**
+     * Finishes the resolution started with {@link #startResolution(Class)} and stores the
+     * corresponding plan.
+     *
+     * @param type the resolved type
+     * @param generator the resolved generator
+     * @param reusable indicating whether the result has been created by a structural strategy
+     */
+    static void finishResolution(final Class<?> type, final TypedGenerator<?> generator,
+            final boolean reusable) {
+        final var recorder = RECORDERS.get().pop();
+        final var plan = new ResolutionPlan(generator,
+                Collections.unmodifiableMap(recorder.dependencies), reusable);
+        if (recorder.complete) {
+            PLANS.get(type).set(plan);
+        } else {
+            PLANS.get(type).set(null);
+        }
+        recordPlan(plan);
+        if (!recorder.complete) {
+            RECORDERS.get().forEach(outer -> outer.complete = false);
+        }
+    }
+
+    /**
+     * Aborts the resolution started with {@link #startResolution(Class)}, e.g. in case of an exception.
+     */
+    static void abortResolution() {
+        RECORDERS.get().pop();
+    }
+
+    private static void recordPlan(final ResolutionPlan plan) {
+        for (final DependencyRecorder recorder : RECORDERS.get()) {
+            plan.dependencies.forEach(recorder.dependencies::putIfAbsent);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package de.cuioss.test.valueobjects.generator.dynamic;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JVM-wide instrumentation of {@link GeneratorResolver}: For each {@link Stage} it records the
+ * number of hits and the cumulative time spent, plus the types that fell through to the javassist
+ * based {@link Stage#DYNAMIC_PROXY}. The time of a stage includes unsuccessful attempts as well as
+ * nested resolutions, e.g. the parameters of a constructor.
+ * <p>
+ * The values can be queried using {@link #snapshot()}. A per test-class summary can be written by
+ * the extension {@link de.cuioss.test.valueobjects.junit5.extension.ResolverStatisticsReporter}
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResolverStatistics {
+
+    /**
+     * The stages of {@link GeneratorResolver#resolveGenerator(Class)} in the order they are
+     * probed.
+     */
+    public enum Stage {
+        /** Generator found within the TypedGeneratorRegistry */
+        REGISTRY,
+        /** Generator found within the {@link ResolutionPlanCache} */
+        PLAN_CACHE,
+        /** Placeholder for back-edges or exceeded depth */
+        LAZY,
+        /** Generator for enums */
+        ENUM,
+        /** Generator for arrays */
+        ARRAY,
+        /** Generator for collection-interfaces */
+        COLLECTION,
+        /** Generator calling a builder or a static factory-method */
+        FACTORY,
+        /** Generator calling a constructor */
+        CONSTRUCTOR,
+        /** Generator delegating to the concrete subclasses of abstract types and interfaces */
+        SUBCLASS,
+        /** Generator creating java.lang.reflect.Proxy instances for interfaces */
+        INTERFACE_PROXY,
+        /** Generator creating javassist proxies */
+        DYNAMIC_PROXY
+    }
+
+    private static final Map<Stage, LongAdder> HITS = createAdders();
+
+    private static final Map<Stage, LongAdder> NANOS = createAdders();
+
+    private static final Set<String> JAVASSIST_TYPES = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Immutable state of the {@link ResolverStatistics} at a certain point in time.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Snapshot {
+
+        private final Map<Stage, Long> hits;
+
+        private final Map<Stage, Long> nanos;
+
+        private final SortedSet<String> javassistTypes;
+
+        /**
+         * @param stage must not be null
+         * @return the number of hits for the given stage
+         */
+        public long getHits(final Stage stage) {
+            return hits.get(stage);
+        }
+
+        /**
+         * @param stage must not be null
+         * @return the cumulative time spent within the given stage in nanoseconds
+         */
+        public long getNanos(final Stage stage) {
+            return nanos.get(stage);
+        }
+
+        /**
+         * @return the names of the types resolved by {@link Stage#DYNAMIC_PROXY}
+         */
+        public SortedSet<String> getJavassistTypes() {
+            return Collections.unmodifiableSortedSet(javassistTypes);
+        }
+
+        /**
+         * @param earlier must not be null
+         * @return a {@link Snapshot} containing the difference between this and the given one
+         */
+        public Snapshot since(final Snapshot earlier) {
+            final Map<Stage, Long> hitsDelta = new EnumMap<>(Stage.class);
+            final Map<Stage, Long> nanosDelta = new EnumMap<>(Stage.class);
+            for (final Stage stage : Stage.values()) {
+                hitsDelta.put(stage, getHits(stage) - earlier.getHits(stage));
+                nanosDelta.put(stage, getNanos(stage) - earlier.getNanos(stage));
+            }
+            final SortedSet<String> types = new TreeSet<>(javassistTypes);
+            types.removeAll(earlier.javassistTypes);
+            return new Snapshot(hitsDelta, nanosDelta, types);
+        }
+
+        /**
+         * @return a human readable summary, one line per stage
+         */
+        @Override
+        public String toString() {
+            final var builder = new StringBuilder();
+            for (final Stage stage : Stage.values()) {
+                builder.append(String.format("%-16s hits=%8d time=%8dms%n", stage, getHits(stage),
+                        TimeUnit.NANOSECONDS.toMillis(getNanos(stage))));
+            }
+            builder.append("Types resolved by javassist:").append(System.lineSeparator());
+            javassistTypes.forEach(type -> builder.append("  ").append(type).append(System.lineSeparator()));
+            return builder.toString();
+        }
+    }
+
+    /**
+     * @return a {@link Snapshot} of the current values
+     */
+    public static Snapshot snapshot() {
+        final Map<Stage, Long> hits = new EnumMap<>(Stage.class);
+        final Map<Stage, Long> nanos = new EnumMap<>(Stage.class);
+        for (final Stage stage : Stage.values()) {
+            hits.put(stage, HITS.get(stage).sum());
+            nanos.put(stage, NANOS.get(stage).sum());
+        }
+        return new Snapshot(hits, nanos, new TreeSet<>(JAVASSIST_TYPES));
+    }
+
+    /**
+     * Records an attempt of the given stage
+     *
+     * @param stage the stage attempted
+     * @param start as returned by {@link System#nanoTime()} at the start of the attempt
+     * @param found the result of the attempt
+     * @return boolean indicating whether the attempt was successful
+     */
+    static boolean record(final Stage stage, final long start, final Optional<?> found) {
+        return record(stage, start, found.isPresent());
+    }
+
+    /**
+     * Records an attempt of the given stage
+     *
+     * @param stage the stage attempted
+     * @param start as returned by {@link System#nanoTime()} at the start of the attempt
+     * @param hit indicating whether the attempt was successful
+     * @return the given hit
+     */
+    static boolean record(final Stage stage, final long start, final boolean hit) {
+        NANOS.get(stage).add(System.nanoTime() - start);
+        if (hit) {
+            HITS.get(stage).increment();
+        }
+        return hit;
+    }
+
+    static void recordJavassistType(final Class<?> type) {
+        JAVASSIST_TYPES.add(type.getName());
+    }
+
+    private static Map<Stage, LongAdder> createAdders() {
+        final Map<Stage, LongAdder> adders = new EnumMap<>(Stage.class);
+        for (final Stage stage : Stage.values()) {
+            adders.put(stage, new LongAdder());
+        }
+        return Collections.unmodifiableMap(adders);
+    }
+}
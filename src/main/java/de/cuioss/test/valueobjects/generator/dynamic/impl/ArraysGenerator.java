@@ -1,19 +1,19 @@
 package de.cuioss.test.valueobjects.generator.dynamic.impl;
 
-import java.lang.reflect.Array;
-import java.util.List;
 import java.util.Optional;
 
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.generator.impl.CollectionGenerator;
-import de.cuioss.test.generator.impl.PrimitiveArrayGenerators;
+import de.cuioss.test.valueobjects.generator.BatchGenerators;
+import de.cuioss.test.valueobjects.generator.ScaleProfile;
 import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Generator for different types of arrays.
+ * Generator for different types of arrays. The arrays are filled directly, see
+ * {@link BatchGenerators}. Their size is taken from the {@link ScaleProfile}, if configured.
  *
  * @author Oliver Wolff
  * @param <T> identifying the concrete Array-type
@@ -35,12 +35,12 @@ public class ArraysGenerator<T, C> implements TypedGenerator<T> {
     @SuppressWarnings("unchecked")
     @Override
     public T next() {
-        final var collection = (List<C>) this.collectionGenerator.list();
-        if (!componentType.isPrimitive()) {
-            final var array = (C[]) Array.newInstance(this.componentType, collection.size());
-            return (T) collection.toArray(array);
+        // The collectionGenerator delegates next() to the element-generator
+        if (ScaleProfile.isScaled()) {
+            return (T) BatchGenerators.nextArray(this.collectionGenerator, this.componentType,
+                    ScaleProfile.collectionSize());
         }
-        return (T) PrimitiveArrayGenerators.resolveForType(componentType).next();
+        return (T) BatchGenerators.nextArray(this.collectionGenerator, this.componentType);
     }
 
     /**
@@ -2,8 +2,10 @@ package de.cuioss.test.valueobjects.generator.dynamic.impl;
 
 import static java.lang.String.format;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
@@ -16,6 +18,7 @@ import java.util.stream.Collectors;
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
 import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import de.cuioss.test.valueobjects.generator.primitive.PrimitiveGenerators;
 import de.cuioss.test.valueobjects.objects.impl.ExceptionHelper;
 import de.cuioss.tools.lang.SecuritySupport;
 import de.cuioss.tools.logging.CuiLogger;
@@ -26,6 +29,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 /**
+ * Generates instances by calling a constructor of the given type. The constructor is compiled once
+ * to a {@link MethodHandle} without parameters, that draws each argument from the corresponding
+ * generator. Generators providing a primitive specialization, e.g.
+ * {@link de.cuioss.test.valueobjects.generator.primitive.IntGenerator}, are called without boxing,
+ * see {@link PrimitiveGenerators#unboxedSource(TypedGenerator, Class)}.
+ * <p>
+ * Within cyclic object-graphs constructors without back-edges are preferred, see
+ * {@link GeneratorResolver#isBeingResolved(Class)}. A back-edge is bound to a
+ * {@link LazyGenerator} returning {@code null} on re-entry, therefore constructors rejecting
+ * {@code null} for it fail with a message naming the cycle.
+ * </p>
+ *
  * @author Oliver Wolff
  * @param <T> identifying the type to be generated
  */
@@ -38,33 +53,59 @@ public class ConstructorBasedGenerator<T> implements TypedGenerator<T> {
     private static final String UNABLE_TO_CALL_CONSTRUCTOR_FOR_CLASS =
         "Unable to call constructor '%s' for class '%s' due to: '%s'";
 
+    private static final String CYCLE_NOT_ACCEPTING_NULL =
+        "Unable to call constructor '%s' for class '%s': It rejects null for the back-edge(s) %s of a cyclic "
+                + "object-graph. Provide a generator for one of the types of the cycle, or a constructor without "
+                + "these parameters";
+
+    /**
+     * System-property for configuring the maximum fan-out, saying the maximum parameter-count of
+     * constructors to be considered, defaults to {@value #DEFAULT_MAX_FAN_OUT}
+     */
+    public static final String MAX_FAN_OUT_KEY = "de.cuioss.test.valueobjects.generator.maxFanOut";
+
+    /** Default for {@link #MAX_FAN_OUT_KEY} */
+    public static final int DEFAULT_MAX_FAN_OUT = 64;
+
+    private static final int MAX_FAN_OUT = Integer.getInteger(MAX_FAN_OUT_KEY, DEFAULT_MAX_FAN_OUT);
+
+    private static final MethodHandle NEXT;
+
+    private static final MethodHandle CONSTRUCTOR_FAILED;
+
+    static {
+        final var lookup = MethodHandles.lookup();
+        try {
+            NEXT = lookup.findVirtual(TypedGenerator.class, "next", MethodType.methodType(Object.class));
+            CONSTRUCTOR_FAILED = lookup.findStatic(ConstructorBasedGenerator.class, "constructorFailed",
+                    MethodType.methodType(Object.class, Constructor.class, TypedGenerator[].class,
+                            Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     @NonNull
     private final Class<T> type;
     @NonNull
-    private final List<TypedGenerator<?>> constructorGenerators;
+    private final TypedGenerator<?>[] constructorGenerators;
     @NonNull
     private final Constructor<T> constructor;
 
+    /** Without parameters and with return-type Object, see {@link #compile(Constructor, TypedGenerator[])} */
+    @NonNull
+    @ToString.Exclude
+    private final MethodHandle factory;
+
     @Override
+    @SuppressWarnings("squid:S1181") // Handles generators sneakily throwing checked exceptions
     public T next() {
-        if (this.constructorGenerators.isEmpty()) {
-            try {
-                return this.constructor.newInstance();
-            } catch (final InstantiationException | IllegalAccessException | IllegalArgumentException
-                    | InvocationTargetException e) {
-                throw new IllegalStateException(
-                        String.format(UNABLE_TO_CALL_CONSTRUCTOR_FOR_CLASS, this.constructor,
-                                this.type, e.getMessage()),
-                        e);
-            }
-        }
-        final var parameter = new ArrayList<>();
-        this.constructorGenerators.forEach(gen -> parameter.add(gen.next()));
+        log.trace("Calling constructor {}", constructor);
         try {
-            logExtendedInformationAboutUsedConstructor(parameter);
-            return this.constructor.newInstance(parameter.toArray());
-        } catch (final InstantiationException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException e) {
+            return type.cast(factory.invokeExact());
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
             throw new IllegalStateException(
                     format(UNABLE_TO_CALL_CONSTRUCTOR_FOR_CLASS, this.constructor,
                             this.type, ExceptionHelper.extractCauseMessageFromThrowable(e)),
@@ -72,7 +113,28 @@ public class ConstructorBasedGenerator<T> implements TypedGenerator<T> {
         }
     }
 
-    private void logExtendedInformationAboutUsedConstructor(final ArrayList<Object> parameterValues) {
+    /**
+     * Target of {@link #CONSTRUCTOR_FAILED}: Wraps anything thrown by the constructor itself.
+     * Exceptions thrown by the generators of the arguments are not passed here.
+     */
+    @SuppressWarnings("unused") // Called by MethodHandle
+    private static Object constructorFailed(final Constructor<?> constructor, final TypedGenerator<?>[] generators,
+            final Throwable cause) {
+        if (cause instanceof NullPointerException) {
+            final var backEdges = Arrays.stream(generators).filter(LazyGenerator.class::isInstance)
+                    .map(generator -> generator.getType().getName()).collect(Collectors.toList());
+            if (!backEdges.isEmpty()) {
+                throw new IllegalStateException(format(CYCLE_NOT_ACCEPTING_NULL, constructor,
+                        constructor.getDeclaringClass(), backEdges), cause);
+            }
+        }
+        throw new IllegalStateException(
+                format(UNABLE_TO_CALL_CONSTRUCTOR_FOR_CLASS, constructor, constructor.getDeclaringClass(),
+                        ExceptionHelper.extractCauseMessageFromThrowable(cause)),
+                cause);
+    }
+
+    private static void logExtendedInformationAboutUsedConstructor(final Constructor<?> constructor) {
         final var constructorModifierValue = constructor.getModifiers();
         if (!Modifier.isPublic(constructorModifierValue)) {
 
@@ -91,16 +153,37 @@ public class ConstructorBasedGenerator<T> implements TypedGenerator<T> {
             final var constructorInfo = modifier + " " + constructor.getName()
                     + "(" + Joiner.on(", ").skipNulls().join(parameterInfo) + ")";
             log.info("Used constructor : {}", constructorInfo);
-            log.info("Used constructor parameter : {}", logUsedValuesForConstructor(parameterValues));
         }
     }
 
-    private static String logUsedValuesForConstructor(final ArrayList<Object> parameter) {
-        final List<String> parameterInfo = new ArrayList<>();
-        for (final Object object : parameter) {
-            parameterInfo.add("[" + object.getClass().getSimpleName() + " " + object.toString() + "]");
+    /**
+     * Compiles the given constructor to a {@link MethodHandle} of type {@code ()Object}: Each
+     * parameter is bound to a {@link MethodHandle} calling the corresponding generator. Failures of
+     * the constructor itself are wrapped, see
+     * {@link #constructorFailed(Constructor, TypedGenerator[], Throwable)}.
+     *
+     * @param constructor must be accessible
+     * @param generators one for each parameter of the constructor
+     * @return the compiled {@link MethodHandle}
+     * @throws IllegalAccessException in case the constructor is not accessible
+     */
+    private static MethodHandle compile(final Constructor<?> constructor, final TypedGenerator<?>[] generators)
+        throws IllegalAccessException {
+        final var target = MethodHandles.lookup().unreflectConstructor(constructor);
+        var handle = MethodHandles.catchException(target, Throwable.class,
+                MethodHandles.insertArguments(CONSTRUCTOR_FAILED, 0, constructor, generators)
+                        .asType(MethodType.methodType(target.type().returnType(), Throwable.class)));
+        final var parameterTypes = constructor.getParameterTypes();
+        // Each step binds the first remaining parameter
+        for (var i = 0; i < generators.length; i++) {
+            handle = MethodHandles.collectArguments(handle, 0, argumentSource(generators[i], parameterTypes[i]));
         }
-        return Joiner.on(", ").skipNulls().join(parameterInfo);
+        return handle.asType(MethodType.methodType(Object.class));
+    }
+
+    private static MethodHandle argumentSource(final TypedGenerator<?> generator, final Class<?> parameterType) {
+        return PrimitiveGenerators.unboxedSource(generator, parameterType)
+                .orElseGet(() -> NEXT.bindTo(generator).asType(MethodType.methodType(parameterType)));
     }
 
     @Override
@@ -111,7 +194,9 @@ public class ConstructorBasedGenerator<T> implements TypedGenerator<T> {
     /**
      * Factory method for creating an instance of {@link ConstructorBasedGenerator}. It first tries
      * to find a public, than protected, package privates, private constructor. It always uses the
-     * constructor with the fewest arguments
+     * constructor with the fewest arguments, preferring constructors without back-edges within
+     * cyclic object-graphs. Constructors with more parameters than configured by
+     * {@link #MAX_FAN_OUT_KEY} are ignored.
      *
      * @param type to be checked for constructors, must not be null, nor an interface, nor an
      *            annotation nor an abstract-class nor an enum
@@ -123,13 +208,16 @@ public class ConstructorBasedGenerator<T> implements TypedGenerator<T> {
         if (!isReponsibleForType(type)) {
             return Optional.empty();
         }
-        final List<Constructor<?>> constructors = Arrays.asList(type.getDeclaredConstructors());
+        // Order according to back-edges and parameter-count
+        final List<Constructor<?>> constructors = Arrays.stream(type.getDeclaredConstructors())
+                .filter(c -> c.getParameterCount() <= MAX_FAN_OUT)
+                .sorted(Comparator.comparing((Constructor<?> c) -> hasBackEdge(c))
+                        .thenComparingInt(Constructor::getParameterCount))
+                .collect(Collectors.toList());
         if (constructors.isEmpty()) {
-            log.warn("Unable to determine constructor for class {} ", type);
+            log.warn("Unable to determine constructor for class {} with at most {} parameter", type, MAX_FAN_OUT);
             return Optional.empty();
         }
-        // Order according to parameter-count
-        constructors.sort(Comparator.comparingInt(Constructor::getParameterCount));
 
         // Find fitting public constructor
         List<Constructor<?>> filteredConstructors = constructors.stream()
@@ -162,6 +250,10 @@ public class ConstructorBasedGenerator<T> implements TypedGenerator<T> {
         return Optional.empty();
     }
 
+    private static boolean hasBackEdge(final Constructor<?> constructor) {
+        return Arrays.stream(constructor.getParameterTypes()).anyMatch(GeneratorResolver::isBeingResolved);
+    }
+
     private static boolean isReponsibleForType(final Class<?> type) {
         if (null == type || type.isAnnotation()) {
             return false;
@@ -209,20 +301,29 @@ public class ConstructorBasedGenerator<T> implements TypedGenerator<T> {
 
         SecuritySupport.setAccessible(constructor, true);
 
-        final List<TypedGenerator<?>> generators = new ArrayList<>();
+        final var generators = new TypedGenerator<?>[constructor.getParameterCount()];
+        var index = 0;
         for (final Class<?> parameterType : constructor.getParameterTypes()) {
             if (parameterType.equals(type)) {
                 // Special case her: eventually copy-constructor -> Play safe prevent infinite
                 // loop, type in this case is not an interface
-                log.warn(
-                        "Unable to create a generator for copy-constuctor of same type for class {}, constructor parameter type = {}",
-                        type, parameterType);
+                log.warn("Unable to create a generator for copy-constuctor of same type for class {}, "
+                        + "constructor parameter type = {}", type, parameterType);
                 return Optional.empty();
 
             }
-            generators.add(GeneratorResolver.resolveGenerator(parameterType));
+            generators[index++] = GeneratorResolver.resolveGenerator(parameterType);
+        }
+        final MethodHandle factory;
+        try {
+            factory = compile(constructor, generators);
+        } catch (final IllegalAccessException e) {
+            log.warn("Unable to access constructor {} for class {} due to {}", constructor, type,
+                    e.getMessage());
+            return Optional.empty();
         }
+        logExtendedInformationAboutUsedConstructor(constructor);
         return Optional.of(
-                new ConstructorBasedGenerator<>(type, generators, constructor));
+                new ConstructorBasedGenerator<>(type, generators, constructor, factory));
     }
 }
@@ -1,20 +1,88 @@
 package de.cuioss.test.valueobjects.generator.dynamic.impl;
 
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
 
 /**
- * Abstract implementation of {@link InvocationHandler} that handles {@link Object#equals}, {@link
- * Object#hashCode} and {@link Object#toString}.:
+ * Implementation of {@link InvocationHandler} that handles {@link Object#equals}, {@link
+ * Object#hashCode} and {@link Object#toString}. All other methods of the proxied interface are
+ * answered by a dispatch table keyed by {@link Method}, that is built once while creating the
+ * handler:
+ * <ul>
+ * <li>Getters, saying methods without parameters named {@code get*} or {@code is*}, that do not
+ * return a {@link Class} return a value created by the generator registered for the return-type,
+ * see {@link TypedGeneratorRegistry#getGenerator(Class)}. The value is created on first call and
+ * returned for all subsequent calls to the same handler. Without a registered generator the
+ * getter answers like any other method.</li>
+ * <li>Other methods with a primitive return-type return the default value of that type, e.g.
+ * {@code 0} or {@code false}.</li>
+ * <li>All other methods return {@code null}, e.g. a stubbed
+ * {@link de.cuioss.test.generator.TypedGenerator} must not report a type.</li>
+ * </ul>
+ * Stubs of {@link Iterable} and {@link Map} are meant to be empty, therefore they answer getters
+ * with default values as well and a stubbed {@link java.util.Collection} consistently reports a
+ * {@code size()} of {@code 0}.
  *
  * @author <a href=
  *         "https://github.com/google/guava/blob/master/guava/src/com/google/common/reflect/DefaultInvocationHandler.java">...</a>
  */
 class DefaultInvocationHandler implements InvocationHandler {
 
-    private static final Object[] NO_ARGS = {};
+    private static final Method EQUALS;
+
+    private static final Method HASH_CODE;
+
+    private static final Method TO_STRING;
+
+    static {
+        try {
+            EQUALS = Object.class.getMethod("equals", Object.class);
+            HASH_CODE = Object.class.getMethod("hashCode");
+            TO_STRING = Object.class.getMethod("toString");
+        } catch (final NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** Answers a single method of the proxied interface. */
+    @FunctionalInterface
+    private interface Answer {
+
+        Object answer(DefaultInvocationHandler handler, Object proxy, Object[] args);
+    }
+
+    private static final Answer EQUALS_ANSWER =
+        (handler, proxy, args) -> handler.proxyEquals(proxy, args[0]);
+
+    private static final Answer HASH_CODE_ANSWER = (handler, proxy, args) -> handler.hashCode();
+
+    private static final Answer TO_STRING_ANSWER = (handler, proxy, args) -> handler.toString();
+
+    private final Map<Method, Answer> dispatch;
+
+    /** Lazily filled by {@link #generatedValue(Method)}, empty {@link Optional} for null-values */
+    private final Map<Method, Optional<Object>> generated = new ConcurrentHashMap<>();
+
+    /**
+     * @param type the interface to be proxied, must not be null
+     */
+    DefaultInvocationHandler(final Class<?> type) {
+        requireNonNull(type, "type must not be null");
+        dispatch = createDispatchTable(type);
+    }
 
     /**
      * {@inheritDoc}
@@ -28,35 +96,73 @@ class DefaultInvocationHandler implements InvocationHandler {
      * <li>and {@link DefaultInvocationHandler#equals} returns true for the {@link
      * InvocationHandler} of {@code argument}
      * </ul>
-     * <li>other method calls return null.
+     * <li>other method calls are answered by the dispatch table, see class-documentation.
      * </ul>
      */
     @Override
-    public final Object invoke(Object proxy, Method method, Object[] args)
-        throws Throwable {
-        if (args == null) {
-            args = NO_ARGS;
+    public final Object invoke(Object proxy, Method method, Object[] args) {
+        final var answer = dispatch.get(method);
+        if (null == answer) {
+            return null;
         }
-        if (args.length == 0 && method.getName().equals("hashCode")) {
-            return hashCode();
+        return answer.answer(this, proxy, args);
+    }
+
+    private boolean proxyEquals(final Object proxy, final Object arg) {
+        if (arg == null) {
+            return false;
         }
-        if (args.length == 1
-                && method.getName().equals("equals")
-                && method.getParameterTypes()[0] == Object.class) {
-            var arg = args[0];
-            if (arg == null) {
-                return false;
+        if (proxy == arg) {
+            return true;
+        }
+        return isProxyOfSameInterfaces(arg, proxy.getClass())
+                && equals(Proxy.getInvocationHandler(arg));
+    }
+
+    private static Map<Method, Answer> createDispatchTable(final Class<?> type) {
+        final Map<Method, Answer> table = new HashMap<>();
+        table.put(EQUALS, EQUALS_ANSWER);
+        table.put(HASH_CODE, HASH_CODE_ANSWER);
+        table.put(TO_STRING, TO_STRING_ANSWER);
+        final var container = Iterable.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type);
+        for (final Method method : type.getMethods()) {
+            final var returnType = method.getReturnType();
+            if (Modifier.isStatic(method.getModifiers()) || void.class == returnType
+                    || table.containsKey(method)) {
+                continue;
             }
-            if (proxy == arg) {
-                return true;
+            if (!container && isGetter(method)) {
+                table.put(method, (handler, proxy, args) -> handler.generatedValue(method));
+            } else if (returnType.isPrimitive()) {
+                final var defaultValue = defaultValue(returnType);
+                table.put(method, (handler, proxy, args) -> defaultValue);
             }
-            return isProxyOfSameInterfaces(arg, proxy.getClass())
-                    && equals(Proxy.getInvocationHandler(arg));
         }
-        if (args.length == 0 && method.getName().equals("toString")) {
-            return toString();
+        return Collections.unmodifiableMap(table);
+    }
+
+    private static boolean isGetter(final Method method) {
+        final var name = method.getName();
+        return 0 == method.getParameterCount() && Class.class != method.getReturnType()
+                && (name.startsWith("get") || name.startsWith("is"));
+    }
+
+    private Object generatedValue(final Method method) {
+        final var current = generated.get(method);
+        if (null != current) {
+            return current.orElse(null);
         }
-        return null;
+        final var returnType = method.getReturnType();
+        final Object created = TypedGeneratorRegistry.getGenerator(returnType)
+                .map(generator -> (Object) generator.next())
+                .orElseGet(() -> returnType.isPrimitive() ? defaultValue(returnType) : null);
+        final var previous = generated.putIfAbsent(method, Optional.ofNullable(created));
+        return null == previous ? created : previous.orElse(null);
+    }
+
+    private static Object defaultValue(final Class<?> primitiveType) {
+        return Array.get(Array.newInstance(primitiveType, 1), 0);
     }
 
     /**
@@ -4,7 +4,7 @@ import java.util.Optional;
 
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.tools.logging.CuiLogger;
-import javassist.util.proxy.ProxyFactory;
+import javassist.util.proxy.MethodFilter;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +12,7 @@ import lombok.ToString;
 
 /**
  * Creates proxies using javassist for any type given that is not an interface nor annotation nor
- * enum.
+ * enum. The proxy-classes are shared JVM-wide, see {@link ProxyClassCache}
  *
  * @author Oliver Wolff
  * @param <T> the type of objects to be generated
@@ -23,6 +23,8 @@ public class DynamicProxyGenerator<T> implements TypedGenerator<T> {
 
     private static final CuiLogger log = new CuiLogger(DynamicProxyGenerator.class);
 
+    private static final MethodFilter EQUALS_FILTER = m -> "equals".equals(m.getName());
+
     @NonNull
     private final Class<T> type;
 
@@ -51,11 +53,7 @@ public class DynamicProxyGenerator<T> implements TypedGenerator<T> {
         if (null == type || type.isAnnotation() || type.isInterface() || type.isEnum()) {
             return Optional.empty();
         }
-        final var proxyFactory = new ProxyFactory();
-        proxyFactory.setSuperclass(type);
-        proxyFactory.setFilter(m -> "equals".equals(m.getName()));
-
-        Class<?> createClassType = proxyFactory.createClass();
+        Class<?> createClassType = ProxyClassCache.getProxyClass(type, EQUALS_FILTER);
         @SuppressWarnings("unchecked")
         final Optional<TypedGenerator<T>> constructorGenerator =
             ConstructorBasedGenerator.getGeneratorForType((Class<T>) createClassType);
@@ -0,0 +1,71 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.DistinctValueGenerator;
+import de.cuioss.test.valueobjects.generator.GeneratorRandom;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Generator for the constants of an enum. As {@link DistinctValueGenerator} it reports the number
+ * of constants as domain-size and creates a constant distinct from a given one directly, without
+ * retries.
+ *
+ * @param <T> identifying the enum-type
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(of = "type")
+public class EnumValuesGenerator<T> implements DistinctValueGenerator<T> {
+
+    @Getter
+    private final Class<T> type;
+
+    private final T[] constants;
+
+    @Override
+    public T next() {
+        if (0 == constants.length) {
+            throw new IllegalStateException(type + " does not provide any constant");
+        }
+        return constants[GeneratorRandom.current().nextInt(constants.length)];
+    }
+
+    @Override
+    public long domainSize() {
+        return constants.length;
+    }
+
+    @Override
+    public T nextDistinctFrom(final T value) {
+        requireNonNull(value, "value must not be null");
+        if (constants.length < 2) {
+            throw new IllegalStateException("Unable to create a value distinct from " + value + " by " + this);
+        }
+        // Draw from the constants except the given one
+        var index = GeneratorRandom.current().nextInt(constants.length - 1);
+        if (index >= ((Enum<?>) value).ordinal()) {
+            index++;
+        }
+        return constants[index];
+    }
+
+    /**
+     * Factory method for creating an instance of {@link EnumValuesGenerator}.
+     *
+     * @param type to be checked
+     * @return an {@link Optional} on the corresponding {@link EnumValuesGenerator} if the given type
+     *         is an enum, {@link Optional#empty()} otherwise
+     */
+    public static final <T> Optional<TypedGenerator<T>> getGeneratorForType(final Class<T> type) {
+        if (null == type || !type.isEnum()) {
+            return Optional.empty();
+        }
+        return Optional.of(new EnumValuesGenerator<>(type, type.getEnumConstants()));
+    }
+}
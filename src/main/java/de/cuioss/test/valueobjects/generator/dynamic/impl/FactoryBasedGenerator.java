@@ -0,0 +1,249 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import static de.cuioss.tools.collect.CollectionLiterals.immutableList;
+import static java.lang.String.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import de.cuioss.test.valueobjects.generator.primitive.PrimitiveGenerators;
+import de.cuioss.test.valueobjects.objects.impl.ExceptionHelper;
+import de.cuioss.tools.lang.SecuritySupport;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Generates instances the way they are created by their clients, for types without a public
+ * constructor:
+ * <ol>
+ * <li>A builder, saying a static method {@code builder()} and a method {@code build()} on the
+ * returned builder that returns the type, e.g. created by lombok's {@code @Builder}. All fluent
+ * methods of the builder with one parameter are called with generated values, except the ones
+ * named {@code clear*}.</li>
+ * <li>A static factory method named as defined by {@link #FACTORY_METHOD_NAMES}, e.g.
+ * {@code of(...)} or {@code valueOf(...)}, returning the type. Factories with fewer parameters
+ * are preferred.</li>
+ * </ol>
+ * The parameters are resolved by their generic type, see
+ * {@link GeneratorResolver#resolveGenerator(java.lang.reflect.Type)}, e.g. a {@code List<Integer>}
+ * is populated with integers. The chosen path is compiled once to a {@link MethodHandle} without
+ * parameters, analogous to {@link ConstructorBasedGenerator}, and is probed by creating one
+ * instance. In case the probe fails, e.g. because a {@code valueOf(String)} expects a certain
+ * format, the next candidate is used.
+ *
+ * @param <T> identifying the type to be generated
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(of = { "type", "description" })
+public class FactoryBasedGenerator<T> implements TypedGenerator<T> {
+
+    private static final CuiLogger log = new CuiLogger(FactoryBasedGenerator.class);
+
+    /** The names of static factory-methods to be considered, in order of preference */
+    public static final List<String> FACTORY_METHOD_NAMES =
+        immutableList("of", "valueOf", "from", "create", "newInstance");
+
+    private static final String BUILDER_METHOD_NAME = "builder";
+
+    private static final String BUILD_METHOD_NAME = "build";
+
+    private static final String CLEAR_PREFIX = "clear";
+
+    private static final MethodHandle NEXT;
+
+    static {
+        try {
+            NEXT = MethodHandles.lookup().findVirtual(TypedGenerator.class, "next",
+                    MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @NonNull
+    private final Class<T> type;
+
+    /** Human readable description of the path, e.g. {@code Type.of(String, int)} */
+    @NonNull
+    private final String description;
+
+    /** Without parameters and with return-type Object */
+    @NonNull
+    private final MethodHandle factory;
+
+    @Override
+    @SuppressWarnings("squid:S1181") // Handles factories sneakily throwing checked exceptions
+    public T next() {
+        try {
+            return type.cast(factory.invokeExact());
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(format("Unable to call '%s' for class '%s' due to: '%s'", description,
+                    type, ExceptionHelper.extractCauseMessageFromThrowable(e)), e);
+        }
+    }
+
+    @Override
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Factory method for creating an instance of {@link FactoryBasedGenerator}.
+     *
+     * @param type to be checked, must not be an interface, nor an annotation nor an enum. Types
+     *            providing a public constructor are ignored, see
+     *            {@link ConstructorBasedGenerator}
+     * @return an {@link Optional} on the corresponding {@link TypedGenerator} if a working builder
+     *         or static factory can be found, otherwise {@link Optional#empty()}
+     */
+    public static final <T> Optional<TypedGenerator<T>> getGeneratorForType(final Class<T> type) {
+        if (!isReponsibleForType(type)) {
+            return Optional.empty();
+        }
+        final var builder = findBuilder(type);
+        if (builder.isPresent()) {
+            return builder;
+        }
+        return findStaticFactory(type);
+    }
+
+    private static boolean isReponsibleForType(final Class<?> type) {
+        if (null == type || type.isAnnotation() || type.isInterface() || type.isEnum() || type.isArray()
+                || type.isPrimitive()) {
+            return false;
+        }
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return true;
+        }
+        for (final Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (Modifier.isPublic(constructor.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> Optional<TypedGenerator<T>> findBuilder(final Class<T> type) {
+        final Method builderMethod;
+        final Method buildMethod;
+        try {
+            builderMethod = type.getDeclaredMethod(BUILDER_METHOD_NAME);
+            if (!Modifier.isStatic(builderMethod.getModifiers())) {
+                return Optional.empty();
+            }
+            buildMethod = builderMethod.getReturnType().getMethod(BUILD_METHOD_NAME);
+        } catch (final NoSuchMethodException e) {
+            return Optional.empty();
+        }
+        if (!type.isAssignableFrom(buildMethod.getReturnType())) {
+            return Optional.empty();
+        }
+        final var builderType = builderMethod.getReturnType();
+        try {
+            var handle = unreflect(builderMethod);
+            final var description = new StringBuilder(type.getSimpleName()).append('.').append(BUILDER_METHOD_NAME)
+                    .append("()");
+            for (final Method setter : findBuilderSetters(builderType)) {
+                final var parameterType = setter.getParameterTypes()[0];
+                final var setterHandle = MethodHandles.collectArguments(
+                        unreflect(setter).asType(MethodType.methodType(builderType, builderType, parameterType)), 1,
+                        argumentSource(GeneratorResolver.resolveGenerator(setter.getGenericParameterTypes()[0]),
+                                parameterType));
+                handle = MethodHandles.filterReturnValue(handle, setterHandle);
+                description.append('.').append(setter.getName()).append("(..)");
+            }
+            handle = MethodHandles.filterReturnValue(handle, unreflect(buildMethod));
+            return probe(type, description.append('.').append(BUILD_METHOD_NAME).append("()").toString(), handle);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            log.debug("Unable to use builder of {} due to {}", type, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the public fluent methods with one parameter, one per name
+     */
+    private static List<Method> findBuilderSetters(final Class<?> builderType) {
+        final Set<String> names = new HashSet<>();
+        return Arrays.stream(builderType.getMethods())
+                .filter(m -> !Modifier.isStatic(m.getModifiers()) && 1 == m.getParameterCount())
+                .filter(m -> builderType.equals(m.getReturnType()) && !m.getName().startsWith(CLEAR_PREFIX))
+                .filter(m -> !builderType.equals(m.getParameterTypes()[0]))
+                .sorted(Comparator.comparing(Method::getName)
+                        .thenComparing(m -> m.getParameterTypes()[0].getName()))
+                .filter(m -> names.add(m.getName())).collect(Collectors.toList());
+    }
+
+    private static <T> Optional<TypedGenerator<T>> findStaticFactory(final Class<T> type) {
+        final List<Method> candidates = Arrays.stream(type.getDeclaredMethods())
+                .filter(m -> Modifier.isStatic(m.getModifiers()) && Modifier.isPublic(m.getModifiers()))
+                .filter(m -> FACTORY_METHOD_NAMES.contains(m.getName()) && type.isAssignableFrom(m.getReturnType()))
+                .filter(m -> !Arrays.asList(m.getParameterTypes()).contains(type))
+                .sorted(Comparator.comparingInt((Method m) -> FACTORY_METHOD_NAMES.indexOf(m.getName()))
+                        .thenComparingInt(Method::getParameterCount))
+                .collect(Collectors.toList());
+        for (final Method candidate : candidates) {
+            try {
+                var handle = unreflect(candidate);
+                final var parameterTypes = candidate.getParameterTypes();
+                final var genericParameterTypes = candidate.getGenericParameterTypes();
+                // Each step binds the first remaining parameter
+                for (var index = 0; index < parameterTypes.length; index++) {
+                    handle = MethodHandles.collectArguments(handle, 0, argumentSource(
+                            GeneratorResolver.resolveGenerator(genericParameterTypes[index]), parameterTypes[index]));
+                }
+                final var found = probe(type, type.getSimpleName() + "." + candidate.getName() + "("
+                        + Arrays.stream(parameterTypes).map(Class::getSimpleName).collect(Collectors.joining(", "))
+                        + ")", handle);
+                if (found.isPresent()) {
+                    return found;
+                }
+            } catch (final IllegalAccessException | RuntimeException e) {
+                log.debug("Unable to use factory {} due to {}", candidate, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static MethodHandle unreflect(final Method method) throws IllegalAccessException {
+        SecuritySupport.setAccessible(method, true);
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    private static MethodHandle argumentSource(final TypedGenerator<?> generator, final Class<?> parameterType) {
+        return PrimitiveGenerators.unboxedSource(generator, parameterType)
+                .orElseGet(() -> NEXT.bindTo(generator).asType(MethodType.methodType(parameterType)));
+    }
+
+    private static <T> Optional<TypedGenerator<T>> probe(final Class<T> type, final String description,
+            final MethodHandle handle) {
+        final var generator = new FactoryBasedGenerator<>(type, description,
+                handle.asType(MethodType.methodType(Object.class)));
+        try {
+            generator.next();
+        } catch (final RuntimeException e) {
+            log.debug("Probing {} failed due to {}", description, e.getMessage());
+            return Optional.empty();
+        }
+        log.debug("Using {} for creating instances of {}", description, type);
+        return Optional.of(generator);
+    }
+}
@@ -1,29 +1,84 @@
 package de.cuioss.test.valueobjects.generator.dynamic.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.tools.lang.SecuritySupport;
+import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.reflect.MoreReflection;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
 /**
  * Creates proxies for given interfaces, should only be used as last line of defense.
+ * <p>
+ * The proxy-class and its constructor are resolved once, while creating the generator, and
+ * compiled to a {@link MethodHandle}. Therefore {@link #next()} costs about as much as a plain
+ * allocation. Because all proxies of a generator share the same {@link InvocationHandler}, see
+ * {@link DefaultInvocationHandler}, they are equal to each other. Therefore instances can be
+ * reused as well: In case the system-property {@value #INSTANCE_POOL_SIZE_KEY} is set, each
+ * generator creates that number of instances once and cycles through them.
+ * </p>
  *
  * @author Oliver Wolff
  * @param <T> the type of objects to be generated
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(of = "type")
 public class InterfaceProxyGenerator<T> implements TypedGenerator<T> {
 
-    private static final InvocationHandler DEFAULT_HANDLER = new DefaultInvocationHandler();
+    private static final CuiLogger log = new CuiLogger(InterfaceProxyGenerator.class);
+
+    /**
+     * System-property for configuring the number of proxy-instances to be reused per interface.
+     * Defaults to {@code 0}, saying a new instance is created for each call.
+     */
+    public static final String INSTANCE_POOL_SIZE_KEY = "de.cuioss.test.valueobjects.generator.proxyInstancePoolSize";
+
+    private static final MethodType PROXY_CONSTRUCTOR_TYPE =
+        MethodType.methodType(Object.class, InvocationHandler.class);
 
     private final Class<T> type;
 
+    /** Shared by all instances, therefore they are equal to each other */
+    private final InvocationHandler handler;
+
+    /**
+     * Type {@code (InvocationHandler)Object}, {@code null} in case the proxy-class is not
+     * accessible, see {@link #compileConstructor(Class, InvocationHandler)}
+     */
+    private final MethodHandle constructor;
+
+    /** Stable instances, {@code null} in case pooling is disabled */
+    private final Object[] instances;
+
+    private final AtomicInteger index = new AtomicInteger();
+
     @Override
+    @SuppressWarnings("unchecked") // The instances are created for type
     public T next() {
-        return MoreReflection.newProxy(this.type, DEFAULT_HANDLER);
+        if (null != instances) {
+            return (T) instances[Math.floorMod(index.getAndIncrement(), instances.length)];
+        }
+        return newProxy();
+    }
+
+    @SuppressWarnings("squid:S1181") // The proxy-constructor does not throw anything
+    private T newProxy() {
+        if (null == constructor) {
+            return MoreReflection.newProxy(this.type, handler);
+        }
+        try {
+            return type.cast(constructor.invokeExact(handler));
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Unable to create proxy for " + type, e);
+        }
     }
 
     @Override
@@ -31,6 +86,36 @@ public class InterfaceProxyGenerator<T> implements TypedGenerator<T> {
         return this.type;
     }
 
+    /**
+     * Resolves the proxy-class for the given interface and compiles its constructor.
+     *
+     * @param type to be proxied
+     * @param handler used for resolving the proxy-class
+     * @return the compiled constructor of type {@code (InvocationHandler)Object}, or {@code null}
+     *         in case it can not be accessed. In that case the proxies are created using
+     *         {@link MoreReflection#newProxy(Class, InvocationHandler)}
+     */
+    private static MethodHandle compileConstructor(final Class<?> type, final InvocationHandler handler) {
+        final Class<?> proxyClass = MoreReflection.newProxy(type, handler).getClass();
+        try {
+            final var proxyConstructor = proxyClass.getConstructor(InvocationHandler.class);
+            SecuritySupport.setAccessible(proxyConstructor, true);
+            return MethodHandles.lookup().unreflectConstructor(proxyConstructor)
+                    .asType(PROXY_CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            log.debug("Unable to compile constructor of {} for {}, falling back to reflection: {}", proxyClass,
+                    type, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return the configured number of instances to be reused, see {@link #INSTANCE_POOL_SIZE_KEY}
+     */
+    static int configuredInstancePoolSize() {
+        return Math.max(0, Integer.getInteger(INSTANCE_POOL_SIZE_KEY, 0));
+    }
+
     /**
      * Factory method for creating an instance of {@link InterfaceProxyGenerator}.
      * It only works with interfaces.
@@ -44,6 +129,16 @@ public class InterfaceProxyGenerator<T> implements TypedGenerator<T> {
         if (null == type || type.isAnnotation() || !type.isInterface()) {
             return Optional.empty();
         }
-        return Optional.of(new InterfaceProxyGenerator<>(type));
+        final InvocationHandler handler = new DefaultInvocationHandler(type);
+        final var prototype = new InterfaceProxyGenerator<>(type, handler, compileConstructor(type, handler), null);
+        final var poolSize = configuredInstancePoolSize();
+        if (0 == poolSize) {
+            return Optional.of(prototype);
+        }
+        final var instances = new Object[poolSize];
+        for (var i = 0; i < poolSize; i++) {
+            instances[i] = prototype.newProxy();
+        }
+        return Optional.of(new InterfaceProxyGenerator<>(type, handler, prototype.constructor, instances));
     }
 }
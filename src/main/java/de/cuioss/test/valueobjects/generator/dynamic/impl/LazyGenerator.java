@@ -0,0 +1,72 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Placeholder used by {@link GeneratorResolver} for back-edges within an object-graph, e.g.
+ * A(B) and B(A), and for types exceeding the maximum resolution depth. The actual generator is
+ * resolved on the first call to {@link #next()} and memoized as long as the generation of the
+ * active {@link de.cuioss.test.valueobjects.generator.TypedGeneratorScope} is unchanged, see
+ * {@link TypedGeneratorRegistry#getGeneration()}. Therefore generators registered later on for
+ * the type are honored, although the placeholder itself is part of a JVM-wide cached plan.
+ * <p>
+ * In order to terminate the generation of cyclic graphs a placeholder returns {@code null} in
+ * case it is called while an instance of the same type is already being generated by a
+ * placeholder on the current thread. Constructors not accepting {@code null} for such a
+ * back-edge fail with a corresponding message, see {@link ConstructorBasedGenerator}.
+ * </p>
+ *
+ * @param <T> identifying the type to be generated
+ */
+@RequiredArgsConstructor
+@ToString(of = "type")
+public class LazyGenerator<T> implements TypedGenerator<T> {
+
+    private static final ThreadLocal<Set<Class<?>>> ACTIVE = ThreadLocal.withInitial(HashSet::new);
+
+    @NonNull
+    @Getter
+    private final Class<T> type;
+
+    private volatile Binding<T> binding;
+
+    @RequiredArgsConstructor
+    private static final class Binding<T> {
+
+        private final Object generation;
+
+        private final TypedGenerator<T> generator;
+    }
+
+    @Override
+    public T next() {
+        final var active = ACTIVE.get();
+        if (!active.add(type)) {
+            return null;
+        }
+        try {
+            return resolveDelegate().next();
+        } finally {
+            active.remove(type);
+        }
+    }
+
+    private TypedGenerator<T> resolveDelegate() {
+        final var generation = TypedGeneratorRegistry.getGeneration();
+        var current = binding;
+        if (null == current || current.generation != generation) {
+            current = new Binding<>(generation, GeneratorResolver.resolveGenerator(type));
+            binding = current;
+        }
+        return current.generator;
+    }
+}
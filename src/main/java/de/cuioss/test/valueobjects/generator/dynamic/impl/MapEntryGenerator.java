@@ -0,0 +1,36 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map.Entry;
+
+import de.cuioss.test.generator.TypedGenerator;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Generator for {@link Entry}s with keys and values created by the given generators. Used for
+ * populating maps by {@link de.cuioss.test.valueobjects.property.util.CollectionType#MAP} and
+ * {@link de.cuioss.test.valueobjects.property.util.CollectionType#SORTED_MAP}.
+ */
+@SuppressWarnings("rawtypes") // Entry.class is raw by definition
+@RequiredArgsConstructor
+@ToString
+public class MapEntryGenerator implements TypedGenerator<Entry> {
+
+    @NonNull
+    private final TypedGenerator<?> keyGenerator;
+
+    @NonNull
+    private final TypedGenerator<?> valueGenerator;
+
+    @Override
+    public Entry next() {
+        return new SimpleImmutableEntry<>(keyGenerator.next(), valueGenerator.next());
+    }
+
+    @Override
+    public Class<Entry> getType() {
+        return Entry.class;
+    }
+}
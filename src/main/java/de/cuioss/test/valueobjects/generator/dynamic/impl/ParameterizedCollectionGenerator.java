@@ -0,0 +1,37 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.impl.CollectionGenerator;
+import de.cuioss.test.valueobjects.property.util.CollectionType;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Generator for parameterized Collection interfaces, e.g. {@code List<Map<String, X>>}. In
+ * contrast to {@link CollectionTypeGenerator} the collections are filled by the given element
+ * generator. Maps are filled by a generator for their entries, see {@link MapEntryGenerator}.
+ *
+ * @param <T> identifying the type to be generated
+ */
+@RequiredArgsConstructor
+@ToString(of = { "type", "collectionType" })
+public class ParameterizedCollectionGenerator<T> implements TypedGenerator<T> {
+
+    @NonNull
+    @Getter
+    private final Class<T> type;
+
+    @NonNull
+    private final CollectionType collectionType;
+
+    @NonNull
+    private final CollectionGenerator<?> collectionGenerator;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T next() {
+        return (T) collectionType.next(collectionGenerator);
+    }
+}
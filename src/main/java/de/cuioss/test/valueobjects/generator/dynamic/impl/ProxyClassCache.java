@@ -0,0 +1,80 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javassist.util.proxy.MethodFilter;
+import javassist.util.proxy.ProxyFactory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * JVM-wide cache for the proxy-classes created by javassist, see {@link DynamicProxyGenerator}.
+ * Because it is independent of the
+ * {@link de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry} a proxy-class for a given
+ * superclass and {@link MethodFilter} is only defined once, regardless how often the registry is
+ * cleared.
+ * <p>
+ * The proxy-classes are attached to their superclass by a {@link ClassValue}, therefore they do
+ * not pin any class-loader and are unloaded together with their superclass. Proxy-classes for
+ * different superclasses are defined concurrently.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProxyClassCache {
+
+    private static final LongAdder CLASSES_DEFINED = new LongAdder();
+
+    private static final LongAdder CACHE_HITS = new LongAdder();
+
+    private static final ClassValue<Map<MethodFilter, Class<?>>> PROXY_CLASSES = new ClassValue<>() {
+
+        @Override
+        protected Map<MethodFilter, Class<?>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Resolves the proxy-class for the given superclass and filter, defining it only if not
+     * already present.
+     *
+     * @param superclass to be proxied, must not be null
+     * @param filter to be used for the proxy. Caution: It is part of the key, therefore it should be
+     *            a constant
+     * @return the corresponding proxy-class
+     */
+    public static Class<?> getProxyClass(final Class<?> superclass, final MethodFilter filter) {
+        final var proxyClasses = PROXY_CLASSES.get(superclass);
+        final var cached = proxyClasses.get(filter);
+        if (null != cached) {
+            CACHE_HITS.increment();
+            return cached;
+        }
+        return proxyClasses.computeIfAbsent(filter, key -> defineProxyClass(superclass, key));
+    }
+
+    private static Class<?> defineProxyClass(final Class<?> superclass, final MethodFilter filter) {
+        final var proxyFactory = new ProxyFactory();
+        proxyFactory.setSuperclass(superclass);
+        proxyFactory.setFilter(filter);
+        final Class<?> proxyClass = proxyFactory.createClass();
+        CLASSES_DEFINED.increment();
+        return proxyClass;
+    }
+
+    /**
+     * @return the number of proxy-classes defined by this cache
+     */
+    public static long getClassesDefined() {
+        return CLASSES_DEFINED.sum();
+    }
+
+    /**
+     * @return the number of requests served from this cache
+     */
+    public static long getCacheHits() {
+        return CACHE_HITS.sum();
+    }
+}
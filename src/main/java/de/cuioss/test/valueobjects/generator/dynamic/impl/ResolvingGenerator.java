@@ -0,0 +1,70 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Leaf of generators composed for generic types, see
+ * {@link GeneratorResolver#resolveGenerator(java.lang.reflect.Type)}: It looks up the actual
+ * generator on the first call to {@link #next()} and memoizes it as long as the generation of the
+ * active {@link de.cuioss.test.valueobjects.generator.TypedGeneratorScope} is unchanged, see
+ * {@link TypedGeneratorRegistry#getGeneration()}. Therefore composed generators can be shared
+ * JVM-wide, while generators registered for the current scope are honored.
+ *
+ * @param <T> identifying the type to be generated
+ */
+@RequiredArgsConstructor
+@ToString(of = "type")
+public class ResolvingGenerator<T> implements TypedGenerator<T> {
+
+    @NonNull
+    @Getter
+    private final Class<T> type;
+
+    private volatile Binding<T> binding;
+
+    @RequiredArgsConstructor
+    private static final class Binding<T> {
+
+        private final Object generation;
+
+        private final TypedGenerator<T> generator;
+    }
+
+    @Override
+    public T next() {
+        return getDelegate().next();
+    }
+
+    /**
+     * @return the generator currently bound for {@link #getType()}. Callers checking for optional
+     *         capabilities, e.g. {@link de.cuioss.test.valueobjects.generator.DistinctValueGenerator},
+     *         should check the delegate instead of this leaf.
+     */
+    public TypedGenerator<T> getDelegate() {
+        final var generation = TypedGeneratorRegistry.getGeneration();
+        var current = binding;
+        if (null == current || current.generation != generation) {
+            current = new Binding<>(generation, GeneratorResolver.resolveGenerator(type));
+            binding = current;
+        }
+        return current.generator;
+    }
+
+    /**
+     * @param generator to be unwrapped, must not be null
+     * @return the delegate of the given generator in case it is a {@link ResolvingGenerator},
+     *         the generator itself otherwise
+     */
+    public static TypedGenerator<?> unwrap(final TypedGenerator<?> generator) {
+        if (generator instanceof ResolvingGenerator) {
+            return ((ResolvingGenerator<?>) generator).getDelegate();
+        }
+        return generator;
+    }
+}
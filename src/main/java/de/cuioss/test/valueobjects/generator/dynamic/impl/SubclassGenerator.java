@@ -0,0 +1,86 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Generates instances of abstract types and interfaces by delegating to the generators of their
+ * concrete subclasses, see {@link SubclassIndex}, instead of creating proxies. The subclasses are
+ * used round-robin, therefore each one is used equally often.
+ *
+ * @param <T> identifying the type to be generated
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(of = { "type", "subclasses" })
+public class SubclassGenerator<T> implements TypedGenerator<T> {
+
+    private static final CuiLogger log = new CuiLogger(SubclassGenerator.class);
+
+    private final Class<T> type;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final List<Class<?>> subclasses;
+
+    private final TypedGenerator<?>[] delegates;
+
+    private final AtomicInteger index = new AtomicInteger();
+
+    @Override
+    public T next() {
+        return type.cast(delegates[Math.floorMod(index.getAndIncrement(), delegates.length)].next());
+    }
+
+    @Override
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Factory method for creating an instance of {@link SubclassGenerator}.
+     *
+     * @param type to be checked, should be abstract or an interface
+     * @return an {@link Optional} on the corresponding {@link TypedGenerator} if the
+     *         {@link SubclassIndex} knows at least one concrete subclass and all of them can be
+     *         resolved, otherwise {@link Optional#empty()}
+     */
+    public static final <T> Optional<TypedGenerator<T>> getGeneratorForType(final Class<T> type) {
+        if (null == type || type.isAnnotation() || type.isArray() || type.isPrimitive()) {
+            return Optional.empty();
+        }
+        final var subclasses = SubclassIndex.concreteSubclasses(type);
+        if (subclasses.isEmpty()) {
+            return Optional.empty();
+        }
+        final List<TypedGenerator<?>> delegates = new ArrayList<>(subclasses.size());
+        for (final Class<?> subclass : subclasses) {
+            try {
+                delegates.add(GeneratorResolver.resolveGenerator(subclass));
+            } catch (final RuntimeException e) {
+                log.debug("Unable to resolve generator for subclass {} of {} due to {}", subclass, type,
+                        e.getMessage());
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new SubclassGenerator<>(type, subclasses, delegates.toArray(new TypedGenerator<?>[0])));
+    }
+
+    /**
+     * Used for registrations, see {@link SubclassIndex#register(Class, Class...)}: In contrast to
+     * {@link #getGeneratorForType(Class)} the generators for the subclasses are resolved on first
+     * usage, see {@link ResolvingGenerator}.
+     */
+    static <T> SubclassGenerator<T> forSubclasses(final Class<T> type, final List<Class<?>> subclasses) {
+        final var delegates = subclasses.stream().map(ResolvingGenerator::new).toArray(TypedGenerator<?>[]::new);
+        return new SubclassGenerator<>(type, subclasses, delegates);
+    }
+}
@@ -0,0 +1,144 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Index of the concrete subclasses for abstract types and interfaces, used by
+ * {@link SubclassGenerator}. The subclasses are determined in the following order:
+ * <ol>
+ * <li>Explicitly registered ones for the active
+ * {@link de.cuioss.test.valueobjects.generator.TypedGeneratorScope}, see
+ * {@link #register(Class, Class...)}</li>
+ * <li>The permitted subclasses of a sealed type, see {@code Class#getPermittedSubclasses()},
+ * available with java 17. Permitted subclasses being abstract themselves are expanded
+ * recursively.</li>
+ * <li>Public static member-classes of the type, implementing it, e.g.
+ * {@code abstract class Shape { public static class Circle extends Shape {..} }}</li>
+ * </ol>
+ * The discovered subclasses are computed once per type and shared JVM-wide.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SubclassIndex {
+
+    private static final CuiLogger log = new CuiLogger(SubclassIndex.class);
+
+    /** {@code Class#getPermittedSubclasses()}, {@code null} prior to java 17 */
+    private static final Method PERMITTED_SUBCLASSES = findPermittedSubclassesMethod();
+
+    private static final ClassValue<List<Class<?>>> DISCOVERED = new ClassValue<>() {
+
+        @Override
+        protected List<Class<?>> computeValue(final Class<?> type) {
+            final Set<Class<?>> found = new LinkedHashSet<>();
+            discover(type, found, new LinkedHashSet<>());
+            return Collections.unmodifiableList(new ArrayList<>(found));
+        }
+    };
+
+    /**
+     * Registers the concrete implementations to be used for the given type, replacing the
+     * discovered ones. The registration is a {@link SubclassGenerator} registered for the type
+     * within the active {@link de.cuioss.test.valueobjects.generator.TypedGeneratorScope},
+     * therefore it is dropped together with the scope, e.g. by {@link TypedGeneratorRegistry#clear()}
+     *
+     * @param type to be registered, must not be null
+     * @param implementations must not be null nor empty, must be assignable to the given type
+     */
+    @SafeVarargs
+    public static <T> void register(final Class<T> type, final Class<? extends T>... implementations) {
+        requireNonNull(type, "type must not be null");
+        requireNonNull(implementations, "implementations must not be null");
+        if (0 == implementations.length) {
+            throw new IllegalArgumentException("At least one implementation must be given for " + type);
+        }
+        for (final Class<? extends T> implementation : implementations) {
+            if (!type.isAssignableFrom(implementation)) {
+                throw new IllegalArgumentException(implementation + " is not assignable to " + type);
+            }
+        }
+        TypedGeneratorRegistry.registerTypedGenerator(type,
+                SubclassGenerator.forSubclasses(type, List.of(implementations)));
+    }
+
+    /**
+     * @param type to be looked up, must not be null
+     * @return the concrete subclasses of the given type, either registered or discovered. May be
+     *         empty but never null
+     */
+    public static List<Class<?>> concreteSubclasses(final Class<?> type) {
+        requireNonNull(type, "type must not be null");
+        final var registered = TypedGeneratorRegistry.getExplicitGenerator(type);
+        if (registered.isPresent() && registered.get() instanceof SubclassGenerator) {
+            return ((SubclassGenerator<?>) registered.get()).getSubclasses();
+        }
+        return DISCOVERED.get(type);
+    }
+
+    private static void discover(final Class<?> type, final Set<Class<?>> found, final Set<Class<?>> visited) {
+        if (!visited.add(type)) {
+            return;
+        }
+        final List<Class<?>> candidates = new ArrayList<>(permittedSubclasses(type));
+        for (final Class<?> member : type.getDeclaredClasses()) {
+            final var modifiers = member.getModifiers();
+            if (Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers) && type.isAssignableFrom(member)) {
+                candidates.add(member);
+            }
+        }
+        for (final Class<?> candidate : candidates) {
+            if (candidate.equals(type)) {
+                continue;
+            }
+            if (isConcrete(candidate)) {
+                found.add(candidate);
+            } else {
+                discover(candidate, found, visited);
+            }
+        }
+    }
+
+    private static boolean isConcrete(final Class<?> type) {
+        // Enums with constant-specific bodies are abstract
+        return type.isEnum() || !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    private static List<Class<?>> permittedSubclasses(final Class<?> type) {
+        if (null == PERMITTED_SUBCLASSES) {
+            return Collections.emptyList();
+        }
+        try {
+            final var permitted = (Class<?>[]) PERMITTED_SUBCLASSES.invoke(type);
+            if (null == permitted) {
+                return Collections.emptyList();
+            }
+            return Arrays.asList(permitted);
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            log.debug("Unable to determine permitted subclasses of {} due to {}", type, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private static Method findPermittedSubclassesMethod() {
+        try {
+            return Class.class.getMethod("getPermittedSubclasses");
+        } catch (final NoSuchMethodException e) {
+            log.debug("Sealed types are not supported by this runtime");
+            return null;
+        }
+    }
+}
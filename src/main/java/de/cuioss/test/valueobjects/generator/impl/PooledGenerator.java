@@ -0,0 +1,158 @@
+package de.cuioss.test.valueobjects.generator.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.DistinctValueGenerator;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.ToString;
+
+/**
+ * Decorator for expensive {@link TypedGenerator}s: It pre-generates a ring-buffer of distinct
+ * values, see {@link #warmUp()}, {@link #next()} just cycles through that buffer. Until the
+ * warm-up is finished the values are taken from the decorated generator. Because the pooled values
+ * are distinct, {@link #nextDistinctFrom(Object)} needs at most one step.
+ * <p>
+ * The pooled instances are shared, therefore only generators for immutable types may be pooled.
+ * Otherwise changes by the code under test, e.g. to the stack-trace of a {@link Throwable}, would
+ * leak into other tests.
+ * </p>
+ * <p>
+ * The pooled mode is optional and configured by the system-properties {@value #POOL_SIZE_KEY}
+ * and {@value #POOL_WARM_UP_ASYNC_KEY}, see
+ * {@link de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry#registerBasicTypes()}
+ * </p>
+ *
+ * @param <T> identifying the type of objects to be generated
+ */
+@ToString(of = { "delegate", "size" })
+public class PooledGenerator<T> implements DistinctValueGenerator<T> {
+
+    private static final CuiLogger log = new CuiLogger(PooledGenerator.class);
+
+    /**
+     * System-property for configuring the number of values to be pooled per type. Defaults to
+     * {@code 0}, saying the pooled mode is disabled.
+     */
+    public static final String POOL_SIZE_KEY = "de.cuioss.test.valueobjects.generator.poolSize";
+
+    /**
+     * System-property, if set to {@code true} the pools are filled on a background thread.
+     */
+    public static final String POOL_WARM_UP_ASYNC_KEY = "de.cuioss.test.valueobjects.generator.poolWarmUpAsync";
+
+    /** Bounds the attempts for finding distinct values, relative to the size of the pool. */
+    private static final int ENTROPY_GUARD = 4;
+
+    private final TypedGenerator<T> delegate;
+
+    private final int size;
+
+    private final AtomicInteger index = new AtomicInteger();
+
+    private volatile Object[] pool;
+
+    /**
+     * @param delegate to be pooled, must not be null
+     * @param size of the pool, must be greater than 0
+     */
+    public PooledGenerator(final TypedGenerator<T> delegate, final int size) {
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be greater than 0, but was " + size);
+        }
+        this.size = size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // The pool is filled by the delegate only
+    public T next() {
+        final var current = pool;
+        if (null == current) {
+            return delegate.next();
+        }
+        return (T) current[Math.floorMod(index.getAndIncrement(), current.length)];
+    }
+
+    @Override
+    public Class<T> getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public long domainSize() {
+        final var current = pool;
+        if (null == current) {
+            return UNKNOWN_DOMAIN;
+        }
+        return current.length;
+    }
+
+    @Override
+    public T nextDistinctFrom(final T value) {
+        requireNonNull(value, "value must not be null");
+        final var current = pool;
+        final var attempts = null == current ? size * ENTROPY_GUARD : current.length;
+        for (var attempt = 0; attempt < attempts; attempt++) {
+            final var next = next();
+            if (!value.equals(next)) {
+                return next;
+            }
+        }
+        throw new IllegalStateException("Unable to create a value distinct from " + value + " by " + this);
+    }
+
+    /**
+     * Fills the pool with up to {@link #size} distinct values of the decorated generator.
+     */
+    public void warmUp() {
+        final var values = new LinkedHashSet<T>();
+        final var maxAttempts = size * ENTROPY_GUARD;
+        for (var attempt = 0; attempt < maxAttempts && values.size() < size; attempt++) {
+            values.add(delegate.next());
+        }
+        log.debug("Pooled {} distinct values for {}", values.size(), getType());
+        pool = values.toArray();
+    }
+
+    /**
+     * @return boolean indicating whether {@link #warmUp()} has been finished
+     */
+    public boolean isWarmedUp() {
+        return null != pool;
+    }
+
+    /**
+     * @return the configured pool-size, see {@link #POOL_SIZE_KEY}. {@code 0} indicates the
+     *         pooled mode being disabled
+     */
+    public static int configuredPoolSize() {
+        return Math.max(0, Integer.getInteger(POOL_SIZE_KEY, 0));
+    }
+
+    /**
+     * Creates a {@link PooledGenerator} with the configured size, see {@link #POOL_SIZE_KEY} and
+     * starts its warm-up, either synchronously or on a background thread, see
+     * {@link #POOL_WARM_UP_ASYNC_KEY}.
+     *
+     * @param delegate to be pooled, must not be null
+     * @return the {@link PooledGenerator} or the given delegate, in case the pooled mode is disabled
+     */
+    public static <T> TypedGenerator<T> pooled(final TypedGenerator<T> delegate) {
+        final var poolSize = configuredPoolSize();
+        if (0 == poolSize) {
+            return delegate;
+        }
+        final var pooled = new PooledGenerator<>(delegate, poolSize);
+        if (Boolean.getBoolean(POOL_WARM_UP_ASYNC_KEY)) {
+            CompletableFuture.runAsync(pooled::warmUp);
+        } else {
+            pooled.warmUp();
+        }
+        return pooled;
+    }
+}
@@ -0,0 +1,32 @@
+package de.cuioss.test.valueobjects.generator.impl;
+
+import java.util.function.Supplier;
+
+import de.cuioss.test.generator.TypedGenerator;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Variant of {@link TypedGenerator} delegating {@link #next()} to a {@link Supplier}, used for
+ * the generators of {@link ValueTypeGenerators}.
+ *
+ * @param <T> identifying the type of objects to be generated
+ */
+@RequiredArgsConstructor
+@ToString(of = "type")
+public class SupplierGenerator<T> implements TypedGenerator<T> {
+
+    @NonNull
+    @Getter
+    private final Class<T> type;
+
+    @NonNull
+    private final Supplier<T> supplier;
+
+    @Override
+    public T next() {
+        return supplier.get();
+    }
+}
@@ -0,0 +1,147 @@
+package de.cuioss.test.valueobjects.generator.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.GeneratorRandom;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Factory for {@link TypedGenerator}s of common value-types of the JDK, e.g. {@link UUID},
+ * {@link Instant} or {@link BigDecimal}. The values are created directly from
+ * {@link GeneratorRandom#current()}, without resolving a constructor or a proxy, see
+ * {@link de.cuioss.test.valueobjects.generator.JavaTypesGenerator}.
+ */
+@UtilityClass
+public class ValueTypeGenerators {
+
+    /** 1900-01-01T00:00:00Z */
+    private static final long MIN_EPOCH_SECOND = -2_208_988_800L;
+
+    /** 2100-01-01T00:00:00Z */
+    private static final long MAX_EPOCH_SECOND = 4_102_444_800L;
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    /** About ten years */
+    private static final long MAX_DURATION_SECONDS = 10L * 366 * 24 * 60 * 60;
+
+    private static final int MAX_SCALE = 10;
+
+    /** {@link ZoneOffset}s are created as multiple of 15 minutes, these are cached by the JDK */
+    private static final int QUARTER_HOUR_SECONDS = 15 * 60;
+    private static final int MAX_QUARTER_HOURS = 18 * 4;
+
+    /** One out of that number of {@link Optional}s is empty */
+    private static final int EMPTY_OPTIONAL_RATIO = 8;
+
+    private static final long VERSION_MASK = 0xFFFF_FFFF_FFFF_0FFFL;
+    private static final long VERSION_4 = 0x0000_0000_0000_4000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_IETF = 0x8000_0000_0000_0000L;
+
+    /**
+     * @return a generator for random (version 4) {@link UUID}s
+     */
+    public static TypedGenerator<UUID> uuids() {
+        return new SupplierGenerator<>(UUID.class, () -> {
+            final var random = GeneratorRandom.current();
+            return new UUID(random.nextLong() & VERSION_MASK | VERSION_4,
+                    random.nextLong() & VARIANT_MASK | VARIANT_IETF);
+        });
+    }
+
+    /**
+     * @return a generator for {@link Instant}s between 1900 and 2100
+     */
+    public static TypedGenerator<Instant> instants() {
+        return new SupplierGenerator<>(Instant.class, ValueTypeGenerators::nextInstant);
+    }
+
+    /**
+     * @return a generator for positive {@link Duration}s up to about ten years
+     */
+    public static TypedGenerator<Duration> durations() {
+        return new SupplierGenerator<>(Duration.class, () -> {
+            final var random = GeneratorRandom.current();
+            return Duration.ofSeconds(random.nextLong(MAX_DURATION_SECONDS), random.nextInt(NANOS_PER_SECOND));
+        });
+    }
+
+    /**
+     * @return a generator for positive {@link Period}s up to 100 years
+     */
+    public static TypedGenerator<Period> periods() {
+        return new SupplierGenerator<>(Period.class, () -> {
+            final var random = GeneratorRandom.current();
+            return Period.of(random.nextInt(101), random.nextInt(12), random.nextInt(31));
+        });
+    }
+
+    /**
+     * @return a generator for {@link BigDecimal}s with a scale between 0 and 10
+     */
+    public static TypedGenerator<BigDecimal> bigDecimals() {
+        return new SupplierGenerator<>(BigDecimal.class, () -> {
+            final var random = GeneratorRandom.current();
+            return BigDecimal.valueOf(random.nextLong(), random.nextInt(MAX_SCALE + 1));
+        });
+    }
+
+    /**
+     * @return a generator for {@link BigInteger}s created from a random {@code long} shifted left
+     *         by 0 to 64 bits, therefore mostly, but not always, exceeding the range of
+     *         {@code long}
+     */
+    public static TypedGenerator<BigInteger> bigIntegers() {
+        return new SupplierGenerator<>(BigInteger.class, () -> {
+            final var random = GeneratorRandom.current();
+            return BigInteger.valueOf(random.nextLong()).shiftLeft(random.nextInt(Long.SIZE + 1));
+        });
+    }
+
+    /**
+     * @return a generator for {@link OffsetDateTime}s between 1900 and 2100 with offsets between
+     *         -18:00 and +18:00
+     */
+    public static TypedGenerator<OffsetDateTime> offsetDateTimes() {
+        return new SupplierGenerator<>(OffsetDateTime.class, () -> {
+            final var offset = ZoneOffset.ofTotalSeconds(
+                    GeneratorRandom.current().nextInt(-MAX_QUARTER_HOURS, MAX_QUARTER_HOURS + 1)
+                            * QUARTER_HOUR_SECONDS);
+            return OffsetDateTime.ofInstant(nextInstant(), offset);
+        });
+    }
+
+    /**
+     * @param elementGenerator for the contained values, must not be null
+     * @return a generator for {@link Optional}s, mostly containing a value of the given generator,
+     *         occasionally {@link Optional#empty()}
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" }) // Optional.class is raw by definition
+    public static TypedGenerator<Optional> optionals(final TypedGenerator<?> elementGenerator) {
+        requireNonNull(elementGenerator, "elementGenerator must not be null");
+        return new SupplierGenerator<>(Optional.class, () -> {
+            if (0 == GeneratorRandom.current().nextInt(EMPTY_OPTIONAL_RATIO)) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(elementGenerator.next());
+        });
+    }
+
+    private static Instant nextInstant() {
+        final var random = GeneratorRandom.current();
+        return Instant.ofEpochSecond(random.nextLong(MIN_EPOCH_SECOND, MAX_EPOCH_SECOND),
+                random.nextInt(NANOS_PER_SECOND));
+    }
+}
@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Specialization of {@link TypedGenerator} for {@code boolean}-primitives: {@link #nextBoolean()} creates values
+ * without boxing them. {@link #next()} is only a boxing bridge for the generic code-paths.
+ */
+@FunctionalInterface
+public interface BooleanGenerator extends TypedGenerator<Boolean> {
+
+    /**
+     * @return the next {@code boolean}-value, not boxed
+     */
+    boolean nextBoolean();
+
+    @Override
+    default Boolean next() {
+        return nextBoolean();
+    }
+
+    @Override
+    default Class<Boolean> getType() {
+        return boolean.class;
+    }
+}
@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Specialization of {@link TypedGenerator} for {@code byte}-primitives: {@link #nextByte()} creates values
+ * without boxing them. {@link #next()} is only a boxing bridge for the generic code-paths.
+ */
+@FunctionalInterface
+public interface ByteGenerator extends TypedGenerator<Byte> {
+
+    /**
+     * @return the next {@code byte}-value, not boxed
+     */
+    byte nextByte();
+
+    @Override
+    default Byte next() {
+        return nextByte();
+    }
+
+    @Override
+    default Class<Byte> getType() {
+        return byte.class;
+    }
+}
@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Specialization of {@link TypedGenerator} for {@code char}-primitives: {@link #nextChar()} creates values
+ * without boxing them. {@link #next()} is only a boxing bridge for the generic code-paths.
+ */
+@FunctionalInterface
+public interface CharGenerator extends TypedGenerator<Character> {
+
+    /**
+     * @return the next {@code char}-value, not boxed
+     */
+    char nextChar();
+
+    @Override
+    default Character next() {
+        return nextChar();
+    }
+
+    @Override
+    default Class<Character> getType() {
+        return char.class;
+    }
+}
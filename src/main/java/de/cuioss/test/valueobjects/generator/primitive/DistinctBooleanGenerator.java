@@ -0,0 +1,47 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.test.valueobjects.generator.DistinctValueGenerator;
+import de.cuioss.test.valueobjects.generator.GeneratorRandom;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * {@link BooleanGenerator} that is a {@link DistinctValueGenerator} as well: The domain consists
+ * of two values, the distinct one is the negation of a given value.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@ToString
+final class DistinctBooleanGenerator implements BooleanGenerator, DistinctValueGenerator<Boolean> {
+
+    /** Either {@code boolean.class} or {@link Boolean} */
+    private final Class<Boolean> type;
+
+    @Override
+    public boolean nextBoolean() {
+        return GeneratorRandom.current().nextBoolean();
+    }
+
+    @Override
+    public Boolean next() {
+        return nextBoolean();
+    }
+
+    @Override
+    public Class<Boolean> getType() {
+        return type;
+    }
+
+    @Override
+    public long domainSize() {
+        return 2;
+    }
+
+    @Override
+    public Boolean nextDistinctFrom(final Boolean value) {
+        requireNonNull(value, "value must not be null");
+        return !value;
+    }
+}
@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Specialization of {@link TypedGenerator} for {@code double}-primitives: {@link #nextDouble()} creates values
+ * without boxing them. {@link #next()} is only a boxing bridge for the generic code-paths.
+ */
+@FunctionalInterface
+public interface DoubleGenerator extends TypedGenerator<Double> {
+
+    /**
+     * @return the next {@code double}-value, not boxed
+     */
+    double nextDouble();
+
+    @Override
+    default Double next() {
+        return nextDouble();
+    }
+
+    @Override
+    default Class<Double> getType() {
+        return double.class;
+    }
+}
@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Specialization of {@link TypedGenerator} for {@code float}-primitives: {@link #nextFloat()} creates values
+ * without boxing them. {@link #next()} is only a boxing bridge for the generic code-paths.
+ */
+@FunctionalInterface
+public interface FloatGenerator extends TypedGenerator<Float> {
+
+    /**
+     * @return the next {@code float}-value, not boxed
+     */
+    float nextFloat();
+
+    @Override
+    default Float next() {
+        return nextFloat();
+    }
+
+    @Override
+    default Class<Float> getType() {
+        return float.class;
+    }
+}
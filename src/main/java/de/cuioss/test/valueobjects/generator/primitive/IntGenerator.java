@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Specialization of {@link TypedGenerator} for {@code int}-primitives: {@link #nextInt()} creates values
+ * without boxing them. {@link #next()} is only a boxing bridge for the generic code-paths.
+ */
+@FunctionalInterface
+public interface IntGenerator extends TypedGenerator<Integer> {
+
+    /**
+     * @return the next {@code int}-value, not boxed
+     */
+    int nextInt();
+
+    @Override
+    default Integer next() {
+        return nextInt();
+    }
+
+    @Override
+    default Class<Integer> getType() {
+        return int.class;
+    }
+}
@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Specialization of {@link TypedGenerator} for {@code long}-primitives: {@link #nextLong()} creates values
+ * without boxing them. {@link #next()} is only a boxing bridge for the generic code-paths.
+ */
+@FunctionalInterface
+public interface LongGenerator extends TypedGenerator<Long> {
+
+    /**
+     * @return the next {@code long}-value, not boxed
+     */
+    long nextLong();
+
+    @Override
+    default Long next() {
+        return nextLong();
+    }
+
+    @Override
+    default Class<Long> getType() {
+        return long.class;
+    }
+}
@@ -0,0 +1,154 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.GeneratorRandom;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Factory for the primitive specializations of {@link TypedGenerator}, e.g. {@link IntGenerator}.
+ * The values are drawn from {@link GeneratorRandom#current()} without boxing them. In addition it
+ * provides {@link MethodHandle}s for the specialized methods, see
+ * {@link #unboxedSource(TypedGenerator, Class)}, used for passing generated values to constructors
+ * without boxing.
+ */
+@UtilityClass
+public class PrimitiveGenerators {
+
+    /** Printable ascii characters, analogous to the characters generator of cui-test-generator */
+    private static final char FIRST_CHAR = ' ';
+    private static final char LAST_CHAR = '~';
+
+    private static final Map<Class<?>, Class<?>> SPECIALIZATIONS = createSpecializations();
+
+    private static final Map<Class<?>, MethodHandle> NEXT_HANDLES = createNextHandles();
+
+    /**
+     * @return an {@link IntGenerator} for the whole range of {@code int}
+     */
+    public static IntGenerator integers() {
+        return () -> GeneratorRandom.current().nextInt();
+    }
+
+    /**
+     * @return a {@link LongGenerator} for the whole range of {@code long}
+     */
+    public static LongGenerator longs() {
+        return () -> GeneratorRandom.current().nextLong();
+    }
+
+    /**
+     * @return a {@link DoubleGenerator} for values between {@link Double#MIN_VALUE} (inclusive) and
+     *         {@link Double#MAX_VALUE} (exclusive), analogous to
+     *         {@link de.cuioss.test.generator.Generators#doubles()}
+     */
+    public static DoubleGenerator doubles() {
+        return () -> GeneratorRandom.current().nextDouble(Double.MIN_VALUE, Double.MAX_VALUE);
+    }
+
+    /**
+     * @return a {@link FloatGenerator} for values between {@link Float#MIN_VALUE} (inclusive) and
+     *         {@link Float#MAX_VALUE} (exclusive), analogous to
+     *         {@link de.cuioss.test.generator.Generators#floats()}
+     */
+    public static FloatGenerator floats() {
+        return () -> (float) GeneratorRandom.current().nextDouble(Float.MIN_VALUE, Float.MAX_VALUE);
+    }
+
+    /**
+     * @return a {@link BooleanGenerator} for {@code boolean}-primitives, being a
+     *         {@link de.cuioss.test.valueobjects.generator.DistinctValueGenerator} as well
+     */
+    @SuppressWarnings("unchecked") // boolean.class is typed as Class<Boolean>
+    public static BooleanGenerator booleans() {
+        return new DistinctBooleanGenerator((Class<Boolean>) (Class<?>) boolean.class);
+    }
+
+    /**
+     * @return a {@link BooleanGenerator} for {@link Boolean}-objects, being a
+     *         {@link de.cuioss.test.valueobjects.generator.DistinctValueGenerator} as well
+     */
+    public static BooleanGenerator booleanObjects() {
+        return new DistinctBooleanGenerator(Boolean.class);
+    }
+
+    /**
+     * @return a {@link ByteGenerator} for the whole range of {@code byte}
+     */
+    public static ByteGenerator bytes() {
+        return () -> (byte) GeneratorRandom.current().nextInt();
+    }
+
+    /**
+     * @return a {@link ShortGenerator} for the whole range of {@code short}
+     */
+    public static ShortGenerator shorts() {
+        return () -> (short) GeneratorRandom.current().nextInt();
+    }
+
+    /**
+     * @return a {@link CharGenerator} for printable ascii-characters
+     */
+    public static CharGenerator characters() {
+        return () -> (char) GeneratorRandom.current().nextInt(FIRST_CHAR, LAST_CHAR + 1);
+    }
+
+    /**
+     * Provides a {@link MethodHandle} calling the specialized method of the given generator, e.g.
+     * {@link IntGenerator#nextInt()}, therefore the values are not boxed.
+     *
+     * @param generator to be checked, must not be null
+     * @param primitiveType the type of the values to be created
+     * @return a {@link MethodHandle} bound to the given generator, with no parameters and the given
+     *         primitive type as return-type. {@link Optional#empty()} in case the given type is not
+     *         a primitive or the generator does not implement the corresponding specialization
+     */
+    public static Optional<MethodHandle> unboxedSource(final TypedGenerator<?> generator,
+            final Class<?> primitiveType) {
+        requireNonNull(generator, "generator must not be null");
+        final var specialization = SPECIALIZATIONS.get(primitiveType);
+        if (null == specialization || !specialization.isInstance(generator)) {
+            return Optional.empty();
+        }
+        return Optional.of(NEXT_HANDLES.get(primitiveType).bindTo(generator));
+    }
+
+    private static Map<Class<?>, Class<?>> createSpecializations() {
+        final Map<Class<?>, Class<?>> specializations = new HashMap<>();
+        specializations.put(int.class, IntGenerator.class);
+        specializations.put(long.class, LongGenerator.class);
+        specializations.put(double.class, DoubleGenerator.class);
+        specializations.put(float.class, FloatGenerator.class);
+        specializations.put(boolean.class, BooleanGenerator.class);
+        specializations.put(byte.class, ByteGenerator.class);
+        specializations.put(short.class, ShortGenerator.class);
+        specializations.put(char.class, CharGenerator.class);
+        return Collections.unmodifiableMap(specializations);
+    }
+
+    private static Map<Class<?>, MethodHandle> createNextHandles() {
+        final var lookup = MethodHandles.publicLookup();
+        final Map<Class<?>, MethodHandle> handles = new HashMap<>();
+        for (final Map.Entry<Class<?>, Class<?>> entry : SPECIALIZATIONS.entrySet()) {
+            final var primitiveType = entry.getKey();
+            final var methodName = "next" + Character.toUpperCase(primitiveType.getName().charAt(0))
+                    + primitiveType.getName().substring(1);
+            try {
+                handles.put(primitiveType,
+                        lookup.findVirtual(entry.getValue(), methodName, MethodType.methodType(primitiveType)));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException("Unable to access " + entry.getValue() + "#" + methodName, e);
+            }
+        }
+        return Collections.unmodifiableMap(handles);
+    }
+}
@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+/**
+ * Specialization of {@link TypedGenerator} for {@code short}-primitives: {@link #nextShort()} creates values
+ * without boxing them. {@link #next()} is only a boxing bridge for the generic code-paths.
+ */
+@FunctionalInterface
+public interface ShortGenerator extends TypedGenerator<Short> {
+
+    /**
+     * @return the next {@code short}-value, not boxed
+     */
+    short nextShort();
+
+    @Override
+    default Short next() {
+        return nextShort();
+    }
+
+    @Override
+    default Class<Short> getType() {
+        return short.class;
+    }
+}
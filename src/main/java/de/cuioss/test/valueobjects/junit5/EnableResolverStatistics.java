@@ -0,0 +1,26 @@
+package de.cuioss.test.valueobjects.junit5;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import de.cuioss.test.valueobjects.generator.dynamic.ResolverStatistics;
+import de.cuioss.test.valueobjects.junit5.extension.ResolverStatisticsReporter;
+
+/**
+ * Enables writing a per test-class summary of the {@link ResolverStatistics}, see
+ * {@link ResolverStatisticsReporter} for details. It helps identifying types whose resolution is
+ * costly and that should therefore be provided by an explicit generator.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+@ExtendWith(ResolverStatisticsReporter.class)
+public @interface EnableResolverStatistics {
+
+}
@@ -0,0 +1,79 @@
+package de.cuioss.test.valueobjects.junit5.extension;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.opentest4j.TestAbortedException;
+
+import de.cuioss.test.valueobjects.generator.GeneratorRandom;
+
+/**
+ * This extension handles the seeding of {@link GeneratorRandom}: Each test-class gets a seed, see
+ * {@link GeneratorRandom#resolveSeed()}, each test gets its own {@link SplittableRandom} derived
+ * from that seed and bound to the executing thread. In case a test fails the seed is reported
+ * together with the system-property for replaying it, attached as suppressed exception to the
+ * original failure.
+ */
+public class GeneratorRandomController
+        implements BeforeEachCallback, AfterEachCallback, TestExecutionExceptionHandler {
+
+    private static final Namespace NAMESPACE = Namespace.create(GeneratorRandomController.class);
+
+    private static final String SEED_KEY = "seed";
+
+    private static final String PREVIOUS_RANDOM_KEY = "previousRandom";
+
+    private static final String MSG_TEMPLATE = "GeneratorRandom seed was %sL. "
+            + "Replay it by using the system property '-D%s=%s'";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        final var random =
+            new SplittableRandom(GeneratorRandom.deriveSeed(resolveClassSeed(context), context.getUniqueId()));
+        final var previous = GeneratorRandom.bind(random);
+        if (null != previous) {
+            context.getStore(NAMESPACE).put(PREVIOUS_RANDOM_KEY, previous);
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        GeneratorRandom.restore(context.getStore(NAMESPACE).remove(PREVIOUS_RANDOM_KEY, SplittableRandom.class));
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        if (throwable instanceof TestAbortedException) {
+            throw throwable;
+        }
+        final long seed = resolveClassSeed(context);
+        throwable.addSuppressed(
+                new SeedReport(String.format(MSG_TEMPLATE, seed, GeneratorRandom.SEED_KEY, seed)));
+        throw throwable;
+    }
+
+    private static long resolveClassSeed(ExtensionContext context) {
+        var current = context;
+        while (current.getTestMethod().isPresent() && current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current.getStore(NAMESPACE).getOrComputeIfAbsent(SEED_KEY, key -> GeneratorRandom.resolveSeed(),
+                Long.class);
+    }
+
+    /**
+     * Carries the seed of a failed test, without a stack-trace of its own.
+     */
+    static final class SeedReport extends RuntimeException {
+
+        private static final long serialVersionUID = 4366235617318005484L;
+
+        SeedReport(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -3,48 +3,140 @@ package de.cuioss.test.valueobjects.junit5.extension;
 import java.util.Collections;
 
 import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 
 import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.TypedGeneratorScope;
 import de.cuioss.test.valueobjects.util.GeneratorAnnotationHelper;
 import de.cuioss.test.valueobjects.util.GeneratorRegistry;
 
 /**
- * This extension handles the test-generator handling, see {@link GeneratorRegistry} for details
+ * This extension handles the test-generator handling, see {@link GeneratorRegistry} for details.
+ * <p>
+ * Each test-class gets its own {@link TypedGeneratorScope} that is stored within the
+ * {@link ExtensionContext} of the test-class and bound to the executing thread from
+ * {@code beforeAll} to {@code afterAll} and for the time of each test. Therefore generators
+ * registered or resolved within {@code @BeforeAll}-methods or callbacks of other extensions use the
+ * scope of the test-class as well. Therefore test-classes can safely be run in parallel, see
+ * {@code junit.jupiter.execution.parallel.enabled}
+ * </p>
+ * <p>
+ * Each test-instance starts with the state of the scope as it has been before creating the first
+ * test-instance, see {@link TypedGeneratorScope#snapshot()}. Therefore generators registered
+ * within {@code @BeforeAll}-methods are kept, while generators registered within a test-method do
+ * not leak into the next one.
+ * </p>
  *
  * @author Oliver Wolff
  *
  */
-public class GeneratorRegistryController implements TestInstancePostProcessor, AfterAllCallback {
+public class GeneratorRegistryController
+        implements BeforeAllCallback, TestInstancePostProcessor, BeforeEachCallback,
+        AfterEachCallback, AfterAllCallback {
 
     private static final Logger log = LoggerFactory.getLogger(GeneratorRegistryController.class);
 
+    private static final Namespace NAMESPACE = Namespace.create(GeneratorRegistryController.class);
+
+    private static final String SCOPE_KEY = "scope";
+
+    private static final String PREVIOUS_SCOPE_KEY = "previousScope";
+
+    private static final String PREVIOUS_CLASS_SCOPE_KEY = "previousClassScope";
+
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        final var previous = TypedGeneratorRegistry.bindScope(resolveClassScope(context));
+        if (null != previous) {
+            classContext(context).getStore(NAMESPACE).put(PREVIOUS_CLASS_SCOPE_KEY, previous);
+        }
+    }
+
     @Override
     public void postProcessTestInstance(Object testInstance, ExtensionContext context) {
-        log.debug(() -> "Clearing TypedGeneratorRegistry registry");
-        TypedGeneratorRegistry.clear();
-        if (testInstance instanceof GeneratorRegistry) {
-            log.debug(() -> "Test-class '" + testInstance.getClass()
-                    + "' is of type de.cuioss.test.valueobjects.util.GeneratorRegistry, initializing Generator framework");
-            var registry = (GeneratorRegistry) testInstance;
-            GeneratorAnnotationHelper.handleGeneratorsForTestClass(registry,
-                    registry.registerAdditionalGenerators());
+        final var scope = resolveClassScope(context);
+        final var store = classContext(context).getStore(NAMESPACE);
+        final var snapshot = store.get(SNAPSHOT_KEY, TypedGeneratorScope.Snapshot.class);
+        if (null == snapshot) {
+            store.put(SNAPSHOT_KEY, scope.snapshot());
         } else {
-            log.debug(() -> "Test-class '{" + testInstance.getClass()
-                    + "}' is NOT of type de.cuioss.test.valueobjects.util.GeneratorRegistry, initializing Generator framework without local Generator");
-            GeneratorAnnotationHelper.handleGeneratorsForTestClass(testInstance,
-                    Collections.emptyList());
+            log.debug(() -> "Resetting TypedGeneratorRegistry scope for "
+                    + testInstance.getClass());
+            scope.restore(snapshot);
+        }
+        final var previous = TypedGeneratorRegistry.bindScope(scope);
+        try {
+            if (testInstance instanceof GeneratorRegistry) {
+                log.debug(() -> "Test-class '" + testInstance.getClass()
+                        + "' is of type de.cuioss.test.valueobjects.util.GeneratorRegistry,"
+                        + " initializing Generator framework");
+                var registry = (GeneratorRegistry) testInstance;
+                GeneratorAnnotationHelper.handleGeneratorsForTestClass(registry,
+                        registry.registerAdditionalGenerators());
+            } else {
+                log.debug(() -> "Test-class '{" + testInstance.getClass()
+                        + "}' is NOT of type de.cuioss.test.valueobjects.util.GeneratorRegistry,"
+                        + " initializing Generator framework without local Generator");
+                GeneratorAnnotationHelper.handleGeneratorsForTestClass(testInstance,
+                        Collections.emptyList());
+            }
+        } finally {
+            TypedGeneratorRegistry.restoreScope(previous);
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        final var previous = TypedGeneratorRegistry.bindScope(resolveClassScope(context));
+        if (null != previous) {
+            context.getStore(NAMESPACE).put(PREVIOUS_SCOPE_KEY, previous);
         }
+    }
 
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TypedGeneratorRegistry.restoreScope(
+                context.getStore(NAMESPACE).remove(PREVIOUS_SCOPE_KEY, TypedGeneratorScope.class));
     }
 
     @Override
     public void afterAll(ExtensionContext context) {
-        log.debug(() -> "Tearing down TypedGeneratorRegistry registry");
-        TypedGeneratorRegistry.clear();
+        log.debug(() -> "Tearing down TypedGeneratorRegistry scope for "
+                + context.getDisplayName());
+        final var store = classContext(context).getStore(NAMESPACE);
+        TypedGeneratorRegistry.restoreScope(
+                store.remove(PREVIOUS_CLASS_SCOPE_KEY, TypedGeneratorScope.class));
+        store.remove(SNAPSHOT_KEY);
+        final var scope = store.remove(SCOPE_KEY, TypedGeneratorScope.class);
+        if (null != scope) {
+            scope.clear();
+        }
+    }
+
+    private static TypedGeneratorScope resolveClassScope(ExtensionContext context) {
+        return classContext(context).getStore(NAMESPACE).getOrComputeIfAbsent(SCOPE_KEY,
+                key -> TypedGeneratorRegistry.createScope(), TypedGeneratorScope.class);
+    }
+
+    /**
+     * Depending on the test-instance lifecycle the given context may be method-level. The scope
+     * is always attached to the context of the test-class.
+     */
+    private static ExtensionContext classContext(ExtensionContext context) {
+        var current = context;
+        while (current.getTestMethod().isPresent() && current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current;
     }
 
 }
@@ -0,0 +1,66 @@
+package de.cuioss.test.valueobjects.junit5.extension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+import de.cuioss.test.valueobjects.generator.dynamic.ResolverStatistics;
+import de.cuioss.test.valueobjects.generator.dynamic.ResolverStatistics.Snapshot;
+
+/**
+ * Opt-in extension writing a summary of the {@link ResolverStatistics} per test-class. The
+ * summary is written to the directory configured by {@value #DIRECTORY_KEY}, defaulting to
+ * {@value #DEFAULT_DIRECTORY}, one file per test-class.
+ * <p>
+ * <em>Caution:</em> The statistics are recorded JVM-wide. In case test-classes are run in
+ * parallel, the summary of a test-class contains the resolutions of the concurrently running
+ * ones as well.
+ * </p>
+ */
+public class ResolverStatisticsReporter implements BeforeAllCallback, AfterAllCallback {
+
+    private static final Logger log = LoggerFactory.getLogger(ResolverStatisticsReporter.class);
+
+    /**
+     * System-property for configuring the directory the summaries are written to.
+     */
+    public static final String DIRECTORY_KEY = "de.cuioss.test.valueobjects.generator.statisticsDirectory";
+
+    /** Default for {@link #DIRECTORY_KEY} */
+    public static final String DEFAULT_DIRECTORY = "target/generator-resolver-statistics";
+
+    private static final Namespace NAMESPACE = Namespace.create(ResolverStatisticsReporter.class);
+
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(SNAPSHOT_KEY, ResolverStatistics.snapshot());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        final var before = context.getStore(NAMESPACE).remove(SNAPSHOT_KEY, Snapshot.class);
+        if (null == before) {
+            return;
+        }
+        final var summary = ResolverStatistics.snapshot().since(before);
+        final var name = context.getTestClass().map(Class::getName).orElse(context.getUniqueId());
+        final Path target = Paths.get(System.getProperty(DIRECTORY_KEY, DEFAULT_DIRECTORY), name + ".txt");
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, (name + System.lineSeparator() + summary).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn(e, () -> "Unable to write resolver statistics to " + target);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package de.cuioss.test.valueobjects.junit5.extension;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+import de.cuioss.test.valueobjects.api.object.ObjectTestConfig;
+import de.cuioss.test.valueobjects.generator.ScaleProfile;
+
+/**
+ * This extension binds the {@link ObjectTestConfig#collectionSize()} of the test-class to the
+ * executing thread, see {@link ScaleProfile#bind(Integer)}. In case it is not configured the
+ * {@link ScaleProfile} is left untouched.
+ */
+public class ScaleProfileController implements BeforeEachCallback, AfterEachCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(ScaleProfileController.class);
+
+    private static final String BOUND_KEY = "bound";
+
+    private static final String PREVIOUS_SIZE_KEY = "previousSize";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        final var config = context.getRequiredTestClass().getAnnotation(ObjectTestConfig.class);
+        if (null == config || ScaleProfile.DEFAULT_SIZES == config.collectionSize()) {
+            return;
+        }
+        final var store = context.getStore(NAMESPACE);
+        store.put(BOUND_KEY, Boolean.TRUE);
+        final var previous = ScaleProfile.bind(config.collectionSize());
+        if (null != previous) {
+            store.put(PREVIOUS_SIZE_KEY, previous);
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        final var store = context.getStore(NAMESPACE);
+        if (null != store.remove(BOUND_KEY, Boolean.class)) {
+            ScaleProfile.restore(store.remove(PREVIOUS_SIZE_KEY, Integer.class));
+        }
+    }
+}
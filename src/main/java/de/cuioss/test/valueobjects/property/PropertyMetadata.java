@@ -6,6 +6,7 @@ import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.generator.impl.CollectionGenerator;
 import de.cuioss.test.valueobjects.property.util.AssertionStrategy;
 import de.cuioss.test.valueobjects.property.util.CollectionType;
+import de.cuioss.test.valueobjects.property.util.DistinctValueSampler;
 import de.cuioss.test.valueobjects.property.util.PropertyAccessStrategy;
 import de.cuioss.tools.property.PropertyMemberInfo;
 import de.cuioss.tools.property.PropertyReadWrite;
@@ -29,7 +30,8 @@ public interface PropertyMetadata extends Comparable<PropertyMetadata> {
      * @return the type of the property. This can either be the actual type, in case
      *         {@link #getCollectionType()} is {@link CollectionType#NO_ITERABLE}, the
      *         component-type in case of {@link CollectionType#ARRAY_MARKER} or the type argument
-     *         for a collection for the other {@link CollectionType}s, see {@link #next()} and
+     *         for a collection for the other {@link CollectionType}s, {@link java.util.Map.Entry}
+     *         for {@link CollectionType#isMapType()}, see {@link #next()} and
      *         {@link #resolveActualClass()}
      */
     Class<?> getPropertyClass();
@@ -39,12 +41,37 @@ public interface PropertyMetadata extends Comparable<PropertyMetadata> {
      * Similar to {@link TypedGenerator#next()} but in case there is a {@link #getCollectionType()}
      * that is not {@link CollectionType#NO_ITERABLE} it wraps the content of the contained
      * generator into a the corresponding collectionWrapper, see
-     * {@link CollectionType#nextIterable(CollectionGenerator)}
+     * {@link CollectionType#next(CollectionGenerator)}
      *
      * @return the next generated value
      */
     Object next();
 
+    /**
+     * Generates a next random value, see {@link #next()}, that is not equal to the given one.
+     *
+     * @param value to be distinct from, must not be null
+     * @return the next generated value, not being equal to the given one
+     * @throws AssertionError in case no distinct value can be created
+     */
+    default Object nextDistinctFrom(final Object value) {
+        return nextDistinctFrom(value, new DistinctValueSampler());
+    }
+
+    /**
+     * Variant of {@link #nextDistinctFrom(Object)} that uses the given sampler for generators
+     * without a more efficient way of creating distinct values. Therefore the caller controls the
+     * lifetime of the knowledge gathered by the sampler, e.g. a single test.
+     *
+     * @param value to be distinct from, must not be null
+     * @param sampler to be used, must not be null
+     * @return the next generated value, not being equal to the given one
+     * @throws AssertionError in case no distinct value can be created
+     */
+    default Object nextDistinctFrom(final Object value, final DistinctValueSampler sampler) {
+        return sampler.nextDistinctFrom(this::next, value, this);
+    }
+
     /**
      * @return The actual class of the property. PropertyMetadata can always be used directly or the
      *         data can be implicitly wrapped into a collection or an array. This method computes
@@ -53,7 +80,8 @@ public interface PropertyMetadata extends Comparable<PropertyMetadata> {
     Class<?> resolveActualClass();
 
     /**
-     * @return a new instance of {@link CollectionGenerator} wrapping the contained generator;
+     * @return an instance of {@link CollectionGenerator} wrapping the contained generator. It is
+     *         immutable and may therefore be shared between calls
      */
     @SuppressWarnings("squid:S1452") // owolff: No type information available at this level,
                                      // therefore the wildcard is needed
@@ -4,9 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.valueobjects.property.util.AssertionStrategy;
 import de.cuioss.test.valueobjects.property.util.CollectionAsserts;
+import de.cuioss.test.valueobjects.property.util.DistinctValueSampler;
 import de.cuioss.test.valueobjects.property.util.PropertyAccessStrategy;
 import lombok.Getter;
 import lombok.NonNull;
@@ -27,12 +27,6 @@ import lombok.ToString;
 @ToString
 public class PropertySupport {
 
-    /**
-     * Used in conjunction with {@link #createCopyWithNonEqualValue()}. Defines the upper bound of
-     * retries for generating non-equal values from a given {@link TypedGenerator}
-     */
-    private static final int ENTROPY_GUARD = 50;
-
     private static final String TARGET_MUST_NOT_BE_NULL = "target must not be null";
 
     @NonNull
@@ -43,6 +37,10 @@ public class PropertySupport {
     @Setter
     private Object generatedValue;
 
+    /** Shared with the copies, see {@link #createCopyWithNonEqualValue()} */
+    @ToString.Exclude
+    private DistinctValueSampler distinctValueSampler;
+
     // Shortcuts to PropertyMetadata
     /**
      * @return boolean indicating whether the current property is readable
@@ -194,31 +192,26 @@ public class PropertySupport {
     }
 
     /**
-     * Creates a copy of this instance. In addition it tries to create a generatedValue that is not
-     * equal to the contained one. It will try this 50 times and will then throw an
-     * {@link AssertionError}
+     * Creates a copy of this instance. In addition it creates a generatedValue that is not
+     * equal to the contained one, see
+     * {@link PropertyMetadata#nextDistinctFrom(Object, DistinctValueSampler)}. In case this is not
+     * possible it will throw an {@link AssertionError}. The {@link DistinctValueSampler} is created
+     * on first usage and shared with the copies, therefore it lives as long as the instances of a
+     * single test.
      *
      * @return the created copy
      */
     public PropertySupport createCopyWithNonEqualValue() {
         final var support = new PropertySupport(propertyMetadata);
+        if (null == distinctValueSampler) {
+            distinctValueSampler = new DistinctValueSampler();
+        }
+        support.distinctValueSampler = distinctValueSampler;
         if (null == getGeneratedValue()) {
             support.generateTestValue();
             return support;
         }
-        var times = 0;
-        final var initialTestValue = getGeneratedValue();
-        while (true) {
-            final var otherValue = support.generateTestValue();
-            if (!initialTestValue.equals(otherValue)) {
-                break;
-            }
-            times++;
-            if (ENTROPY_GUARD == times) {
-                throw new AssertionError(
-                        "Unable to create non equal test-value for " + propertyMetadata);
-            }
-        }
+        support.setGeneratedValue(propertyMetadata.nextDistinctFrom(getGeneratedValue(), distinctValueSampler));
         return support;
     }
 }
@@ -9,10 +9,14 @@ import java.util.List;
 
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.generator.impl.CollectionGenerator;
-import de.cuioss.test.generator.impl.PrimitiveArrayGenerators;
+import de.cuioss.test.valueobjects.generator.BatchGenerators;
+import de.cuioss.test.valueobjects.generator.DistinctValueGenerator;
+import de.cuioss.test.valueobjects.generator.ScaleProfile;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.ResolvingGenerator;
 import de.cuioss.test.valueobjects.property.PropertyMetadata;
 import de.cuioss.test.valueobjects.property.util.AssertionStrategy;
 import de.cuioss.test.valueobjects.property.util.CollectionType;
+import de.cuioss.test.valueobjects.property.util.DistinctValueSampler;
 import de.cuioss.test.valueobjects.property.util.PropertyAccessStrategy;
 import de.cuioss.tools.property.PropertyMemberInfo;
 import de.cuioss.tools.property.PropertyReadWrite;
@@ -28,7 +32,8 @@ import lombok.RequiredArgsConstructor;
  * @author Oliver Wolff
  */
 @RequiredArgsConstructor(access = AccessLevel.MODULE)
-@EqualsAndHashCode(exclude = "generator", doNotUseGetters = true)
+@EqualsAndHashCode(exclude = { "generator", "collectionGenerator" },
+        doNotUseGetters = true)
 public class PropertyMetadataImpl implements PropertyMetadata {
 
     @Getter
@@ -63,24 +68,67 @@ public class PropertyMetadataImpl implements PropertyMetadata {
     @Getter
     private final AssertionStrategy assertionStrategy;
 
+    /**
+     * Created once for collection-types, {@code null} otherwise, see
+     * {@link #resolveCollectionGenerator()}. Instances are cached JVM-wide together with the
+     * scanned properties, therefore this class must not hold any mutable state.
+     */
+    private final CollectionGenerator<?> collectionGenerator;
+
     @Override
     public Object next() {
         switch (collectionType) {
             case NO_ITERABLE:
                 return generator.next();
             case ARRAY_MARKER:
-                if (!propertyClass.isPrimitive()) {
-                    return resolveCollectionGenerator().list().toArray();
+                final Class<?> componentType = propertyClass.isPrimitive() ? propertyClass : Object.class;
+                if (ScaleProfile.isScaled()) {
+                    return BatchGenerators.nextArray(generator, componentType, ScaleProfile.collectionSize());
                 }
-                return PrimitiveArrayGenerators.resolveForType(getPropertyClass()).next();
+                return BatchGenerators.nextArray(generator, componentType);
             default:
-                return collectionType.nextIterable(resolveCollectionGenerator());
+                if (ScaleProfile.isScaled()) {
+                    final var size = ScaleProfile.collectionSize();
+                    return collectionType.next(new CollectionGenerator<>(generator, size, size));
+                }
+                return collectionType.next(resolveCollectionGenerator());
+        }
+    }
+
+    /**
+     * In case the generator, or the delegate of a {@link ResolvingGenerator}, is a
+     * {@link DistinctValueGenerator} the value is created directly, otherwise by the given
+     * {@link DistinctValueSampler}. Enums with less than two constants are reported without any
+     * attempt.
+     */
+    @Override
+    @SuppressWarnings("unchecked") // The generator is of the type of the value
+    public Object nextDistinctFrom(final Object value, final DistinctValueSampler sampler) {
+        if (CollectionType.NO_ITERABLE == collectionType) {
+            final var effective = ResolvingGenerator.unwrap(generator);
+            if (effective instanceof DistinctValueGenerator) {
+                final var distinct = (DistinctValueGenerator<Object>) effective;
+                final var domainSize = distinct.domainSize();
+                if (DistinctValueGenerator.UNKNOWN_DOMAIN != domainSize && domainSize < 2) {
+                    throw new AssertionError(
+                            "Unable to create non equal test-value for " + this + ", domain-size is " + domainSize);
+                }
+                return distinct.nextDistinctFrom(value);
+            }
+            if (propertyClass.isEnum() && propertyClass.getEnumConstants().length < 2) {
+                throw new AssertionError("Unable to create non equal test-value for " + this
+                        + ", the enum provides less than two constants");
+            }
         }
+        return sampler.nextDistinctFrom(this::next, value, this);
     }
 
     @Override
     public CollectionGenerator<?> resolveCollectionGenerator() {
-        return new CollectionGenerator<>(generator);
+        if (null == collectionGenerator) {
+            return new CollectionGenerator<>(generator);
+        }
+        return collectionGenerator;
     }
 
     @Override
@@ -219,11 +267,13 @@ public class PropertyMetadataImpl implements PropertyMetadata {
             requireNonNull(tempPropertyClass, "propertyClass");
 
             Class<?> actualClass = tempPropertyClass;
+            CollectionGenerator<?> collectionGenerator = null;
             if (!CollectionType.NO_ITERABLE.equals(tempCollectionType)) {
                 if (CollectionType.ARRAY_MARKER.equals(tempCollectionType)) {
                     actualClass = Array.newInstance(tempPropertyClass, 0).getClass();
                 } else {
-                    actualClass = tempCollectionType.getIterableType();
+                    actualClass = tempCollectionType.getContainerType();
+                    collectionGenerator = new CollectionGenerator<>(tempGenerator);
                 }
 
             }
@@ -234,7 +284,7 @@ public class PropertyMetadataImpl implements PropertyMetadata {
                     tempPropertyAccessStrategy,
                     tempCollectionType,
                     tempPropertyMemberInfo, tempPropertyReadWrite,
-                    tempAssertionStrategy);
+                    tempAssertionStrategy, collectionGenerator);
         }
 
     }
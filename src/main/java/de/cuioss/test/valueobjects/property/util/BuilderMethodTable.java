@@ -0,0 +1,112 @@
+package de.cuioss.test.valueobjects.property.util;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.cuioss.test.valueobjects.property.impl.BuilderMetadata;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Table of the builder-methods used by {@link PropertyAccessStrategy#BUILDER_DIRECT} and
+ * {@link PropertyAccessStrategy#BUILDER_COLLECTION_AND_SINGLE_ELEMENT}. The methods for a property
+ * are determined once per builder-class and {@link BuilderMetadata}, see
+ * {@link #lookup(Class, BuilderMetadata)}. Methods that do not exist are recorded as well,
+ * therefore writing a property never needs to probe for alternatives.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BuilderMethodTable {
+
+    private static final ClassValue<Map<BuilderMetadata, BuilderMethods>> TABLES = new ClassValue<>() {
+
+        @Override
+        protected Map<BuilderMetadata, BuilderMethods> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * The methods of a builder-class for writing a single property, each of them may be null.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class BuilderMethods {
+
+        private final Class<?> builderType;
+
+        private final BuilderMetadata metadata;
+
+        /** e.g. {@code name(String)} */
+        private final Method singleAdd;
+
+        /** e.g. {@code names(List)} or {@code names(Collection)} */
+        private final Method addAll;
+
+        /** e.g. {@code entry(String, String)} */
+        private final Method singleEntry;
+
+        /** e.g. {@code entries(SortedMap)} or {@code entries(Map)} */
+        private final Method putAll;
+
+        /** e.g. {@code name(String)} with exactly the actual type of the property */
+        private final Method direct;
+
+        Method requireSingleAdd() throws NoSuchMethodException {
+            return require(singleAdd, metadata.getBuilderSingleAddMethodName(), "(element)");
+        }
+
+        Method requireAddAll() throws NoSuchMethodException {
+            return require(addAll, metadata.getBuilderAddMethodName(), "(Iterable)");
+        }
+
+        Method requireSingleEntry() throws NoSuchMethodException {
+            return require(singleEntry, metadata.getBuilderSingleAddMethodName(), "(key, value)");
+        }
+
+        Method requirePutAll() throws NoSuchMethodException {
+            return require(putAll, metadata.getBuilderAddMethodName(), "(Map)");
+        }
+
+        Method requireDirect() throws NoSuchMethodException {
+            return require(direct, metadata.getBuilderAddMethodName(),
+                    "(" + metadata.resolveActualClass().getName() + ")");
+        }
+
+        private Method require(final Method method, final String name, final String parameters)
+            throws NoSuchMethodException {
+            if (null == method) {
+                throw new NoSuchMethodException(builderType.getName() + "." + name + parameters);
+            }
+            return method;
+        }
+    }
+
+    /**
+     * @param builderType the type of the builder, must not be null
+     * @param metadata identifying the property and the names of its builder-methods, must not be
+     *            null
+     * @return the {@link BuilderMethods} for the given property, determined on first request
+     */
+    static BuilderMethods lookup(final Class<?> builderType, final BuilderMetadata metadata) {
+        return TABLES.get(builderType).computeIfAbsent(metadata, key -> create(builderType, key));
+    }
+
+    private static BuilderMethods create(final Class<?> builderType, final BuilderMetadata metadata) {
+        final var introspection = ClassIntrospection.of(builderType);
+        final var addName = metadata.getBuilderAddMethodName();
+        final var singleAddName = metadata.getBuilderSingleAddMethodName();
+        final var collectionType = metadata.getCollectionType();
+
+        final var singleAdd = introspection.findMethod(singleAddName, metadata.getPropertyClass()).orElse(null);
+        final var addAll = introspection.findMethod(addName, collectionType.getIterableType())
+                .or(() -> introspection.findMethod(addName, CollectionType.COLLECTION.getIterableType()))
+                .orElse(null);
+        final var singleEntry = introspection.getMethods(singleAddName).stream()
+                .filter(method -> 2 == method.getParameterCount()).findFirst().orElse(null);
+        final var putAll = introspection.findMethod(addName, collectionType.getContainerType())
+                .or(() -> introspection.findMethod(addName, Map.class)).orElse(null);
+        final var direct = introspection.findMethod(addName, metadata.resolveActualClass()).orElse(null);
+        return new BuilderMethods(builderType, metadata, singleAdd, addAll, singleEntry, putAll, direct);
+    }
+}
@@ -0,0 +1,373 @@
+package de.cuioss.test.valueobjects.property.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import de.cuioss.tools.lang.SecuritySupport;
+import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.tools.property.PropertyHolder;
+import de.cuioss.tools.property.PropertyMemberInfo;
+import de.cuioss.tools.property.PropertyReadWrite;
+import de.cuioss.tools.reflect.MoreReflection;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Index of the reflective information about a class that is needed for scanning and accessing
+ * its properties: Its fields, access-methods, property-descriptors and public methods. It is
+ * created in a single pass per class and cached within a {@link ClassValue}, see {@link #of(Class)}.
+ * In contrast {@link PropertyHolder#from(Class, String)}, {@link MoreReflection#accessField(Class, String)}
+ * and {@link MoreReflection#retrieveWriteMethod(Class, String, Class)} walk the property-descriptors,
+ * the type-hierarchy or all public methods for each single property again.
+ * <p>
+ * The results of the lookups are equivalent to the ones of the corresponding methods of
+ * {@link MoreReflection} and {@link PropertyHolder}. The {@link PropertyHolder}s and write-methods
+ * are created on first request per name.
+ * </p>
+ * <p>
+ * In addition it reads and writes properties and invokes methods of instances of the type, see
+ * {@link #readProperty(Object, String)}, {@link #writeProperty(Object, String, Object)} and
+ * {@link #invoke(Method, Object, Object...)}. The methods are compiled to {@link MethodHandle}s on
+ * first usage, therefore repeated calls neither look them up again nor pay for
+ * {@link Method#invoke(Object, Object...)}.
+ * </p>
+ */
+@ToString(of = "type")
+public final class ClassIntrospection {
+
+    private static final CuiLogger log = new CuiLogger(ClassIntrospection.class);
+
+    private static final String SET_PREFIX = "set";
+
+    private static final String NAME_MUST_NOT_BE_NULL = "name must not be null";
+
+    private static final String UNABLE_TO_READ_PROPERTY = "Unable to read property '%s' from beanType '%s'.";
+
+    private static final String UNABLE_TO_WRITE_PROPERTY =
+        "Unable to write property '%s' to beanType '%s': no suitable write method found. Needed property-type '%s'";
+
+    private static final MethodHandle METHOD_INVOKE;
+
+    static {
+        try {
+            METHOD_INVOKE = MethodHandles.lookup().findVirtual(Method.class, "invoke",
+                    MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final ClassValue<ClassIntrospection> INTROSPECTIONS = new ClassValue<>() {
+
+        @Override
+        protected ClassIntrospection computeValue(final Class<?> type) {
+            return new ClassIntrospection(type);
+        }
+    };
+
+    @Getter
+    private final Class<?> type;
+
+    /**
+     * The access-methods in the order of {@link MoreReflection#retrieveAccessMethods(Class)}
+     */
+    @Getter
+    private final List<Method> accessMethods;
+
+    private final Map<String, Field> fields;
+
+    private final Map<String, PropertyDescriptor> descriptors;
+
+    private final Map<String, List<Method>> publicMethods;
+
+    /** The public methods with exactly one parameter, candidates for writing properties */
+    private final List<Method> singleParameterMethods;
+
+    private final Map<String, Optional<PropertyHolder>> properties = new ConcurrentHashMap<>();
+
+    private final Map<String, List<Method>> writeMethodCandidates = new ConcurrentHashMap<>();
+
+    private final Map<String, Optional<Method>> accessMethodsByName = new ConcurrentHashMap<>();
+
+    /** The compiled methods, all parameters and the return-type being {@link Object} */
+    private final Map<Method, MethodHandle> handles = new ConcurrentHashMap<>();
+
+    private ClassIntrospection(final Class<?> type) {
+        this.type = type;
+        accessMethods = Collections.unmodifiableList(MoreReflection.retrieveAccessMethods(type));
+        fields = indexFields(type);
+        descriptors = indexDescriptors(type);
+        final var methods = MoreReflection.retrievePublicObjectMethods(type);
+        publicMethods = Collections
+                .unmodifiableMap(methods.stream().collect(Collectors.groupingBy(Method::getName)));
+        singleParameterMethods = methods.stream().filter(method -> 1 == method.getParameterCount())
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * @param type to be introspected, must not be null
+     * @return the {@link ClassIntrospection} for the given type, created only once per type
+     */
+    public static ClassIntrospection of(final Class<?> type) {
+        requireNonNull(type, "type must not be null");
+        return INTROSPECTIONS.get(type);
+    }
+
+    /**
+     * Equivalent to {@link MoreReflection#accessField(Class, String)}
+     *
+     * @param name of the field, must not be null
+     * @return the field with the given name, declared by the type or one of its super-types.
+     */
+    public Optional<Field> getField(final String name) {
+        return Optional.ofNullable(fields.get(name));
+    }
+
+    /**
+     * Equivalent to {@link PropertyHolder#from(Class, String)}
+     *
+     * @param name of the property, must not be null
+     * @return the {@link PropertyHolder} for the given property, {@link Optional#empty()} if it
+     *         can not be determined
+     */
+    public Optional<PropertyHolder> getProperty(final String name) {
+        requireNonNull(name, NAME_MUST_NOT_BE_NULL);
+        return properties.computeIfAbsent(name, this::createProperty);
+    }
+
+    private Optional<PropertyHolder> createProperty(final String name) {
+        final var descriptor = descriptors.get(name);
+        if (null == descriptor) {
+            // Falls back to reflection
+            return PropertyHolder.from(type, name);
+        }
+        return Optional.of(PropertyHolder.builder().name(name)
+                .readWrite(PropertyReadWrite.fromPropertyDescriptor(descriptor, type, name))
+                .readMethod(descriptor.getReadMethod()).writeMethod(descriptor.getWriteMethod())
+                .memberInfo(PropertyMemberInfo.resolveForBean(type, name)).type(descriptor.getPropertyType())
+                .build());
+    }
+
+    /**
+     * Equivalent to {@link MoreReflection#retrieveWriteMethodCandidates(Class, String)}
+     *
+     * @param name of the property, must not be null
+     * @return the public methods with one parameter named like the property, or named like its
+     *         setter
+     */
+    public List<Method> getWriteMethodCandidates(final String name) {
+        requireNonNull(name, NAME_MUST_NOT_BE_NULL);
+        return writeMethodCandidates.computeIfAbsent(name,
+                key -> singleParameterMethods.stream()
+                        .filter(method -> key.equals(method.getName())
+                                || method.getName().startsWith(SET_PREFIX) && isNamedAfter(method, key))
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * Equivalent to {@link MoreReflection#retrieveWriteMethod(Class, String, Class)}
+     *
+     * @param name of the property, must not be null
+     * @param parameterType the type of the value to be written, must not be null
+     * @return the first write-method candidate accepting the given type
+     */
+    public Optional<Method> findWriteMethod(final String name, final Class<?> parameterType) {
+        requireNonNull(parameterType, "parameterType must not be null");
+        for (final Method candidate : getWriteMethodCandidates(name)) {
+            if (MoreReflection.checkWhetherParameterIsAssignable(candidate.getParameterTypes()[0], parameterType)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param name of the methods, must not be null
+     * @return the public methods with the given name, including inherited ones
+     */
+    public List<Method> getMethods(final String name) {
+        return publicMethods.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Analogous to {@link Class#getMethod(String, Class...)}
+     *
+     * @param name of the method, must not be null
+     * @param parameterTypes the exact parameter-types
+     * @return the public method with the given name and parameter-types. Bridge-methods are only
+     *         returned in case there is no other one
+     */
+    public Optional<Method> findMethod(final String name, final Class<?>... parameterTypes) {
+        Method found = null;
+        for (final Method method : getMethods(name)) {
+            if (Arrays.equals(parameterTypes, method.getParameterTypes())
+                    && (null == found || found.isBridge() && !method.isBridge())) {
+                found = method;
+            }
+        }
+        return Optional.ofNullable(found);
+    }
+
+    /**
+     * Equivalent to {@link MoreReflection#retrieveAccessMethod(Class, String)}
+     *
+     * @param name of the property, must not be null
+     * @return the access-method for the given property
+     */
+    public Optional<Method> getAccessMethod(final String name) {
+        requireNonNull(name, NAME_MUST_NOT_BE_NULL);
+        return accessMethodsByName.computeIfAbsent(name,
+                key -> accessMethods.stream()
+                        .filter(method -> isNamedAfter(method, key))
+                        .findFirst());
+    }
+
+    private static boolean isNamedAfter(final Method method, final String name) {
+        return name.equalsIgnoreCase(MoreReflection.computePropertyNameFromMethodName(method.getName()));
+    }
+
+    /**
+     * Equivalent to {@link de.cuioss.tools.property.PropertyUtil#readProperty(Object, String)}
+     *
+     * @param target to be read from, must be an instance of the introspected type
+     * @param name of the property, must not be null
+     * @return the value of the property, may be null
+     * @throws IllegalArgumentException in case there is no access-method for the property
+     * @throws IllegalStateException in case the access-method fails
+     */
+    public Object readProperty(final Object target, final String name) {
+        final var accessMethod = getAccessMethod(name);
+        if (accessMethod.isEmpty()) {
+            throw new IllegalArgumentException(String.format(UNABLE_TO_READ_PROPERTY, name, type));
+        }
+        return invoke(accessMethod.get(), target);
+    }
+
+    /**
+     * Equivalent to {@link de.cuioss.tools.property.PropertyUtil#writeProperty(Object, String, Object)}:
+     * In case of a {@code null} value the first write-method candidate is used, otherwise the first
+     * one accepting the type of the value.
+     *
+     * @param target to be written to, must be an instance of the introspected type
+     * @param name of the property, must not be null
+     * @param value to be written, may be null
+     * @return the result of the write-method, in case of a void method or {@code null} the target
+     * @throws IllegalArgumentException in case there is no suitable write-method
+     * @throws IllegalStateException in case the write-method fails
+     */
+    public Object writeProperty(final Object target, final String name, final Object value) {
+        final Optional<Method> writeMethod;
+        if (null == value) {
+            writeMethod = getWriteMethodCandidates(name).stream().findFirst();
+        } else {
+            writeMethod = findWriteMethod(name, value.getClass());
+        }
+        if (writeMethod.isEmpty()) {
+            throw new IllegalArgumentException(String.format(UNABLE_TO_WRITE_PROPERTY, name, type,
+                    null == value ? "Undefined" : value.getClass().getName()));
+        }
+        final var result = invoke(writeMethod.get(), target, value);
+        if (null == result) {
+            return target;
+        }
+        return result;
+    }
+
+    /**
+     * Invokes the given method using a {@link MethodHandle} compiled on first usage.
+     *
+     * @param method to be invoked, must be a method of the introspected type
+     * @param target to be invoked on
+     * @param arguments to be passed
+     * @return the result of the method, {@code null} for void methods
+     * @throws IllegalStateException wrapping any exception thrown by the method
+     */
+    @SuppressWarnings("squid:S1181") // Reflection wraps errors as well
+    public Object invoke(final Method method, final Object target, final Object... arguments) {
+        final var handle = handles.computeIfAbsent(method, ClassIntrospection::compile);
+        try {
+            switch (arguments.length) {
+                case 0:
+                    return handle.invokeExact(target);
+                case 1:
+                    return handle.invokeExact(target, arguments[0]);
+                case 2:
+                    return handle.invokeExact(target, arguments[0], arguments[1]);
+                default:
+                    final var all = new Object[arguments.length + 1];
+                    all[0] = target;
+                    System.arraycopy(arguments, 0, all, 1, arguments.length);
+                    return handle.invokeWithArguments(all);
+            }
+        } catch (final Throwable e) {
+            throw new IllegalStateException(
+                    String.format("Unable to invoke '%s' on '%s'", method.getName(), type.getName()), e);
+        }
+    }
+
+    /**
+     * @return a {@link MethodHandle} for the given method, with all parameters and the return-type
+     *         being {@link Object}. Falls back to {@link Method#invoke(Object, Object...)} in case
+     *         the method can not be accessed by a {@link java.lang.invoke.MethodHandles.Lookup}
+     */
+    private static MethodHandle compile(final Method method) {
+        final var genericType = MethodType.genericMethodType(method.getParameterCount() + 1);
+        try {
+            return unreflect(method).asType(genericType);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            log.debug("Unable to compile {}, falling back to reflection: {}", method, e.getMessage());
+            return METHOD_INVOKE.bindTo(method).asCollector(Object[].class, method.getParameterCount())
+                    .asType(genericType);
+        }
+    }
+
+    private static MethodHandle unreflect(final Method method) throws IllegalAccessException {
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (final IllegalAccessException e) {
+            SecuritySupport.setAccessible(method, true);
+            return MethodHandles.lookup().unreflect(method);
+        }
+    }
+
+    private static Map<String, Field> indexFields(final Class<?> type) {
+        final Map<String, Field> found = new HashMap<>();
+        var current = type;
+        while (null != current && !Object.class.equals(current)) {
+            for (final Field field : current.getDeclaredFields()) {
+                // Fields of sub-types hide the ones of their super-types
+                found.putIfAbsent(field.getName(), field);
+            }
+            current = current.getSuperclass();
+        }
+        return Collections.unmodifiableMap(found);
+    }
+
+    private static Map<String, PropertyDescriptor> indexDescriptors(final Class<?> type) {
+        try {
+            final var descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+            return Collections.unmodifiableMap(Arrays.stream(descriptors)
+                    .collect(Collectors.toMap(PropertyDescriptor::getName, descriptor -> descriptor,
+                            (first, second) -> first)));
+        } catch (final IntrospectionException e) {
+            log.debug("Unable to introspect {}, falling back to reflection: {}", type, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package de.cuioss.test.valueobjects.property.util;
 
 import java.util.Collection;
+import java.util.Map;
 
 import lombok.experimental.UtilityClass;
 
@@ -22,7 +23,8 @@ public final class CollectionAsserts {
         "The given objects for property %s do not have the same size: expected=%s , actual=%s";
 
     /**
-     * Checks whether two Collection elements are equal ignoring the order.
+     * Checks whether two Collection elements are equal ignoring the order. {@link Map}s are compared
+     * by their entries.
      *
      * @param propertyName the name of the property, used for creating the error-message, must not
      *            be null
@@ -40,6 +42,11 @@ public final class CollectionAsserts {
         if (expected == null || actual == null) {
             fail(NOT_EQUAL, propertyName, expected, actual);
         } else {
+            if (expected instanceof Map && actual instanceof Map) {
+                // Entries are compared by key and value, the order of the maps is ignored
+                handleAssert(propertyName, ((Map<?, ?>) expected).entrySet(), ((Map<?, ?>) actual).entrySet());
+                return;
+            }
             if (!(expected instanceof Iterable) || !(actual instanceof Iterable)) {
                 fail(NO_COLLECTION, propertyName, expected, actual);
             }
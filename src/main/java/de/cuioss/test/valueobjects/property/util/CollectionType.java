@@ -7,22 +7,25 @@ import static de.cuioss.tools.collect.CollectionLiterals.mutableList;
 import static de.cuioss.tools.collect.CollectionLiterals.mutableSet;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.TreeMap;
 
 import de.cuioss.test.generator.impl.CollectionGenerator;
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Used for static intersection of collection-types.
  *
  * @author Oliver Wolff
  */
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @SuppressWarnings("squid:S1452") // owolff: No type information available at this level,
                                  // therefore the wildcard is needed
 public enum CollectionType {
@@ -103,6 +106,72 @@ public enum CollectionType {
         }
 
     },
+    /**
+     * Represents a {@link Map}, the implementation is a {@link LinkedHashMap}. The elements
+     * created by the {@link CollectionGenerator} must be {@link Entry}s, see
+     * {@link de.cuioss.test.valueobjects.generator.dynamic.impl.MapEntryGenerator}. The
+     * {@link Iterable} based operations work on the {@link Map#entrySet()} of the corresponding
+     * map.
+     */
+    MAP(Set.class, Map.class) {
+
+        @Override
+        public Iterable<?> nextIterable(final CollectionGenerator<?> collectionGenerator) {
+            return ((Map<?, ?>) next(collectionGenerator)).entrySet();
+        }
+
+        @Override
+        public Iterable<?> wrapToIterable(final Iterable<?> iterable) {
+            return putAll(new LinkedHashMap<>(), iterable).entrySet();
+        }
+
+        @Override
+        public Iterable<?> emptyCollection() {
+            return Collections.emptyMap().entrySet();
+        }
+
+        @Override
+        public Object next(final CollectionGenerator<?> collectionGenerator) {
+            final var elements = collectionGenerator.list();
+            return putAll(new LinkedHashMap<>(capacityFor(elements.size())), elements);
+        }
+
+        @Override
+        public Map<?, ?> wrapToMap(final Map<?, ?> map) {
+            return new LinkedHashMap<>(map);
+        }
+    },
+    /**
+     * Represents a {@link SortedMap}, the implementation is a {@link TreeMap}. Analogous to
+     * {@link #MAP}
+     */
+    SORTED_MAP(Set.class, SortedMap.class) {
+
+        @Override
+        public Iterable<?> nextIterable(final CollectionGenerator<?> collectionGenerator) {
+            return ((Map<?, ?>) next(collectionGenerator)).entrySet();
+        }
+
+        @Override
+        public Iterable<?> wrapToIterable(final Iterable<?> iterable) {
+            return putAll(new TreeMap<>(), iterable).entrySet();
+        }
+
+        @Override
+        public Iterable<?> emptyCollection() {
+            return Collections.emptySortedMap().entrySet();
+        }
+
+        @Override
+        public Object next(final CollectionGenerator<?> collectionGenerator) {
+            return putAll(new TreeMap<>(), collectionGenerator.list());
+        }
+
+        @Override
+        public Map<?, ?> wrapToMap(final Map<?, ?> map) {
+            return new TreeMap<>(map);
+        }
+    },
     /**
      * 'Marker' type for arrays. The operations will always throw an
      * {@link UnsupportedOperationException}. It is designed as a marker and can not be used
@@ -153,6 +222,25 @@ public enum CollectionType {
     @Getter
     private final Class<? extends Iterable> iterableType;
 
+    /**
+     * The type of the property, identical to {@link #getIterableType()} for {@link Iterable}
+     * based types, {@link Map} or {@link SortedMap} for {@link #MAP} and {@link #SORTED_MAP}, whose
+     * {@link #getIterableType()} is the type of the {@link Map#entrySet()}
+     */
+    @Getter
+    private final Class<?> containerType;
+
+    @SuppressWarnings("rawtypes")
+    CollectionType(final Class<? extends Iterable> iterableType) {
+        this(iterableType, iterableType);
+    }
+
+    @SuppressWarnings("rawtypes")
+    CollectionType(final Class<? extends Iterable> iterableType, final Class<?> containerType) {
+        this.iterableType = iterableType;
+        this.containerType = containerType;
+    }
+
     /**
      * Will create a corresponding type out of the given Generator
      *
@@ -161,6 +249,37 @@ public enum CollectionType {
      */
     public abstract Iterable<?> nextIterable(CollectionGenerator<?> collectionGenerator);
 
+    /**
+     * Will create a corresponding container out of the given Generator. For {@link Iterable}
+     * based types it is identical to {@link #nextIterable(CollectionGenerator)}, for {@link #MAP}
+     * and {@link #SORTED_MAP} it creates a map.
+     *
+     * @param collectionGenerator to be used, must not be null
+     * @return a type-corresponding container
+     */
+    public Object next(final CollectionGenerator<?> collectionGenerator) {
+        return nextIterable(collectionGenerator);
+    }
+
+    /**
+     * Will copy the given map in to the corresponding map-type
+     *
+     * @param map to be used, must not be null
+     * @return a type-corresponding map
+     * @throws UnsupportedOperationException in case this is not {@link #isMapType()}
+     */
+    public Map<?, ?> wrapToMap(final Map<?, ?> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return boolean indicating whether this type represents a {@link Map}, saying {@link #MAP}
+     *         or {@link #SORTED_MAP}
+     */
+    public boolean isMapType() {
+        return Map.class.isAssignableFrom(containerType);
+    }
+
     /**
      * Will wrap the given iterable in to the corresponding collection-type
      *
@@ -178,7 +297,9 @@ public enum CollectionType {
 
     /**
      * Finds a concrete implementation for a given <em>Interface</em> that is to at least
-     * {@link Collection}. A special case is the dealing with Arrays
+     * {@link Collection}. A special case is the dealing with Arrays. Map-interfaces are
+     * represented by {@link #MAP} or {@link #SORTED_MAP}, in case the corresponding
+     * implementation is assignable to the given type.
      *
      * @param type to be checked
      * @return {@link Optional} of the type
@@ -191,6 +312,15 @@ public enum CollectionType {
         if (type.isArray()) {
             return Optional.of(ARRAY_MARKER);
         }
+        if (type.isInterface() && Map.class.isAssignableFrom(type)) {
+            if (type.isAssignableFrom(LinkedHashMap.class)) {
+                return Optional.of(MAP);
+            }
+            if (type.isAssignableFrom(TreeMap.class)) {
+                return Optional.of(SORTED_MAP);
+            }
+            return Optional.empty();
+        }
 
         if (!type.isInterface() || !Iterable.class.isAssignableFrom(type)) {
             return Optional.empty();
@@ -203,6 +333,25 @@ public enum CollectionType {
         return Optional.empty();
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" }) // No type information available
+    private static Map<?, ?> putAll(final Map target, final Iterable<?> elements) {
+        for (final Object element : elements) {
+            if (!(element instanceof Entry)) {
+                throw new IllegalArgumentException(
+                        "Map-types expect elements of type java.util.Map.Entry, see MapEntryGenerator, but was "
+                                + element);
+            }
+            final var entry = (Entry<?, ?>) element;
+            target.put(entry.getKey(), entry.getValue());
+        }
+        return target;
+    }
+
+    /** Capacity for a {@link java.util.HashMap} holding the given number of entries without rehash */
+    private static int capacityFor(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
     private static final List<CollectionType> SEARCH_ORDER =
         immutableList(SORTED_SET, SET, LIST, COLLECTION);
 }
@@ -0,0 +1,91 @@
+package de.cuioss.test.valueobjects.property.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+import lombok.ToString;
+
+/**
+ * Sampler for creating values that are not equal to a given one, used for generators that do not
+ * provide {@link de.cuioss.test.valueobjects.generator.DistinctValueGenerator}. It redraws from the
+ * source until a distinct value is found. The sampler learns the ratio of draws resulting in a
+ * distinct value, saying the hits, by counting draws and hits. The number of attempts for a single
+ * request is derived from that ratio: It is at least {@link #ENTROPY_GUARD} and grows for sources
+ * that rarely produce distinct values, bounded by {@link #MAX_ATTEMPTS}. Therefore the expected
+ * number of draws is constant for a given source.
+ * <p>
+ * The sampler never remembers values, each returned value is freshly drawn. It is meant to be
+ * used for the lifetime of a single test, see
+ * {@link de.cuioss.test.valueobjects.property.PropertySupport#createCopyWithNonEqualValue()},
+ * therefore it must not be stored within shared instances like
+ * {@link de.cuioss.test.valueobjects.property.PropertyMetadata}.
+ * </p>
+ */
+@ToString(of = { "draws", "hits" })
+public final class DistinctValueSampler {
+
+    /**
+     * Defines the lower bound of draws for a single request.
+     */
+    public static final int ENTROPY_GUARD = 50;
+
+    /**
+     * Defines the upper bound of draws for a single request.
+     */
+    public static final int MAX_ATTEMPTS = 1000;
+
+    /** Multiple of the expected draws, derived from the learned hit-ratio, used as attempts */
+    private static final int EXPECTED_DRAWS_FACTOR = 20;
+
+    private long draws;
+
+    private long hits;
+
+    /**
+     * @param source to draw values from, must not be null
+     * @param value to be distinct from, must not be null
+     * @param description used for the error-message, e.g. the corresponding property
+     * @return a value not equal to the given one
+     * @throws AssertionError in case no distinct value can be created
+     */
+    public synchronized Object nextDistinctFrom(final Supplier<?> source, final Object value,
+            final Object description) {
+        requireNonNull(source, "source must not be null");
+        requireNonNull(value, "value must not be null");
+        final var attempts = getAttempts();
+        for (var attempt = 0; attempt < attempts; attempt++) {
+            final Object next = source.get();
+            draws++;
+            if (!value.equals(next)) {
+                hits++;
+                return next;
+            }
+        }
+        throw new AssertionError("Unable to create non equal test-value for " + description
+                + ", the generator created only equal values within " + attempts + " attempts");
+    }
+
+    /**
+     * @return the number of attempts for the next request, derived from the learned hit-ratio
+     */
+    public synchronized int getAttempts() {
+        if (0 == hits) {
+            return ENTROPY_GUARD;
+        }
+        final var expectedDraws = (double) draws / hits;
+        final var scaled = Math.ceil(expectedDraws * EXPECTED_DRAWS_FACTOR);
+        return (int) Math.min(MAX_ATTEMPTS, Math.max(ENTROPY_GUARD, scaled));
+    }
+
+    /**
+     * @return the ratio of draws resulting in a distinct value, {@code 1} in case nothing has been
+     *         drawn yet
+     */
+    public synchronized double getHitRatio() {
+        if (0 == draws) {
+            return 1;
+        }
+        return (double) hits / draws;
+    }
+}
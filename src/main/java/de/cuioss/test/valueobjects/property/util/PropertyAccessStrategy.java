@@ -1,12 +1,12 @@
 package de.cuioss.test.valueobjects.property.util;
 
-import static de.cuioss.tools.collect.CollectionLiterals.mutableList;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import de.cuioss.test.valueobjects.objects.impl.ExceptionHelper;
 import de.cuioss.test.valueobjects.property.PropertyMetadata;
@@ -14,7 +14,6 @@ import de.cuioss.test.valueobjects.property.impl.BuilderMetadata;
 import de.cuioss.test.valueobjects.property.impl.BuilderMetadata.BuilderMetadataBuilder;
 import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.property.PropertyUtil;
-import de.cuioss.tools.reflect.MoreReflection;
 
 /**
  * Defines different ways for reading / writing properties.
@@ -25,8 +24,9 @@ import de.cuioss.tools.reflect.MoreReflection;
 public enum PropertyAccessStrategy {
 
     /**
-     * Reads and writes property according to the JavaBean-Spec. It uses {@link PropertyUtil} to do
-     * so. It acts as part of JUnit testing, therefore it will translate many of the more technical
+     * Reads and writes property according to the JavaBean-Spec. It uses {@link ClassIntrospection}
+     * to do so, that behaves like {@link PropertyUtil} but compiles the accessors on first usage.
+     * It acts as part of JUnit testing, therefore it will translate many of the more technical
      * Exceptions to corresponding {@link AssertionError}
      *
      * @author Oliver Wolff
@@ -40,7 +40,8 @@ public enum PropertyAccessStrategy {
             assertNotNull(target, TARGET_MUST_NOT_BE_NULL);
             assertNotNull(target, PROPERTY_METADATA_MUST_NOT_BE_NULL);
             try {
-                PropertyUtil.writeProperty(target, propertyMetadata.getName(), propertyValue);
+                ClassIntrospection.of(target.getClass()).writeProperty(target, propertyMetadata.getName(),
+                        propertyValue);
                 return target;
             } catch (IllegalArgumentException | IllegalStateException e) {
                 throw new AssertionError(String.format(UNABLE_TO_SET_PROPERTY, propertyMetadata.getName(),
@@ -55,7 +56,7 @@ public enum PropertyAccessStrategy {
             assertNotNull(target, TARGET_MUST_NOT_BE_NULL);
             assertNotNull(target, PROPERTY_METADATA_MUST_NOT_BE_NULL);
             try {
-                return PropertyUtil.readProperty(target, propertyMetadata.getName());
+                return ClassIntrospection.of(target.getClass()).readProperty(target, propertyMetadata.getName());
             } catch (IllegalArgumentException | IllegalStateException e) {
                 throw new AssertionError(String.format(UNABLE_TO_READ_PROPERTY, propertyMetadata.getName(),
                         ExceptionHelper.extractCauseMessageFromThrowable(e)), e);
@@ -109,54 +110,55 @@ public enum PropertyAccessStrategy {
         public Object writeProperty(final Object target,
                 final PropertyMetadata propertyMetadata,
                 final Object propertyValue) {
-            if (!(propertyValue instanceof Iterable)) {
-                throw new AssertionError(
-                        "Invalid valueType given, must be at least Iterable, but was " + propertyValue);
-            }
-            final Iterable<?> iterable = (Iterable<?>) propertyValue;
-            final List<?> elements = mutableList(iterable);
             BuilderMetadata builderMetadata;
             if (!(propertyMetadata instanceof BuilderMetadata)) {
                 builderMetadata = BuilderMetadata.wrapFromMetadata(propertyMetadata);
             } else {
                 builderMetadata = (BuilderMetadata) propertyMetadata;
             }
+            if (propertyValue instanceof Map) {
+                return writeMap(target, propertyMetadata, builderMetadata, (Map<?, ?>) propertyValue);
+            }
+            if (!(propertyValue instanceof Iterable)) {
+                throw new AssertionError(
+                        "Invalid valueType given, must be at least Iterable or Map, but was " + propertyValue);
+            }
+            final var elements = ((Iterable<?>) propertyValue).iterator();
             try {
-                if (!elements.isEmpty()) {
-                    final Object singleElement = elements.iterator().next();
-
-                    final var writeAddMethod = target.getClass().getMethod(
-                            builderMetadata.getBuilderSingleAddMethodName(), propertyMetadata.getPropertyClass());
-                    writeAddMethod.invoke(target, singleElement);
-
-                    // Remove the element from the elements list
-                    elements.remove(singleElement);
+                final var methods = BuilderMethodTable.lookup(target.getClass(), builderMetadata);
+                if (elements.hasNext()) {
+                    invoke(methods.requireSingleAdd(), target, elements.next());
                 }
-                final var writeCollectionMethod =
-                    determineCollectionWriteMethod(target, propertyMetadata, builderMetadata);
-
                 // Now write the remaining elements
-                return writeCollectionMethod.invoke(target,
-                        propertyMetadata.getCollectionType().wrapToIterable(elements));
-            } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
-                    | InvocationTargetException e) {
+                return invoke(methods.requireAddAll(), target,
+                        propertyMetadata.getCollectionType().wrapToIterable(remaining(elements)));
+            } catch (NoSuchMethodException | IllegalStateException e) {
                 throw new AssertionError(String.format(UNABLE_TO_SET_PROPERTY, propertyMetadata.getName(),
                         ExceptionHelper.extractCauseMessageFromThrowable(e)), e);
             }
 
         }
 
-        private Method determineCollectionWriteMethod(final Object target, final PropertyMetadata propertyMetadata,
-                BuilderMetadata builderMetadata)
-            throws NoSuchMethodException {
+        /**
+         * Writes the first entry using the single-add method with key and value as parameter, e.g.
+         * {@code entry(key, value)}, the remaining ones using the collection method, e.g.
+         * {@code entries(Map)}
+         */
+        private Object writeMap(final Object target, final PropertyMetadata propertyMetadata,
+                final BuilderMetadata builderMetadata, final Map<?, ?> map) {
+            final var remaining = propertyMetadata.getCollectionType().wrapToMap(map);
             try {
-                return target.getClass().getMethod(builderMetadata.getBuilderAddMethodName(),
-                        propertyMetadata.getCollectionType().getIterableType());
-            } catch (NoSuchMethodException e) {
-                // Noop -> Assuming collection-parameter
+                final var methods = BuilderMethodTable.lookup(target.getClass(), builderMetadata);
+                if (!map.isEmpty()) {
+                    final Entry<?, ?> singleEntry = map.entrySet().iterator().next();
+                    invoke(methods.requireSingleEntry(), target, singleEntry.getKey(), singleEntry.getValue());
+                    remaining.remove(singleEntry.getKey());
+                }
+                return invoke(methods.requirePutAll(), target, remaining);
+            } catch (NoSuchMethodException | IllegalStateException e) {
+                throw new AssertionError(String.format(UNABLE_TO_SET_PROPERTY, propertyMetadata.getName(),
+                        ExceptionHelper.extractCauseMessageFromThrowable(e)), e);
             }
-            return target.getClass().getMethod(builderMetadata.getBuilderAddMethodName(),
-                    CollectionType.COLLECTION.getIterableType());
         }
 
         @Override
@@ -188,11 +190,9 @@ public enum PropertyAccessStrategy {
                 builderMetadata = (BuilderMetadata) propertyMetadata;
             }
             try {
-                final var writeMethod = target.getClass().getMethod(builderMetadata.getBuilderAddMethodName(),
-                        propertyMetadata.resolveActualClass());
-                return writeMethod.invoke(target, propertyValue);
-            } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
-                    | InvocationTargetException e) {
+                final var writeMethod = BuilderMethodTable.lookup(target.getClass(), builderMetadata).requireDirect();
+                return invoke(writeMethod, target, propertyValue);
+            } catch (NoSuchMethodException | IllegalStateException e) {
                 var message = String.format(UNABLE_TO_SET_PROPERTY, propertyMetadata.getName(),
                         ExceptionHelper.extractCauseMessageFromThrowable(e));
                 new CuiLogger(getClass()).error(message);
@@ -215,16 +215,15 @@ public enum PropertyAccessStrategy {
 
         @Override
         public Object writeProperty(Object target, PropertyMetadata propertyMetadata, Object propertyValue) {
-            var writeMethod = MoreReflection.retrieveWriteMethod(target.getClass(),
-                    propertyMetadata.getName(), propertyMetadata.resolveActualClass());
+            var writeMethod = ClassIntrospection.of(target.getClass()).findWriteMethod(propertyMetadata.getName(),
+                    propertyMetadata.resolveActualClass());
             if (!writeMethod.isPresent()) {
                 throw new AssertionError(String.format(UNABLE_TO_SET_PROPERTY, propertyMetadata.getName(),
                         "No write-method could be found"));
             }
             try {
-                return writeMethod.get().invoke(target, propertyValue);
-            } catch (SecurityException | IllegalAccessException | IllegalArgumentException
-                    | InvocationTargetException e) {
+                return invoke(writeMethod.get(), target, propertyValue);
+            } catch (IllegalStateException e) {
                 throw new AssertionError(String.format(UNABLE_TO_SET_PROPERTY, propertyMetadata.getName(),
                         ExceptionHelper.extractCauseMessageFromThrowable(e)), e);
             }
@@ -246,6 +245,17 @@ public enum PropertyAccessStrategy {
     private static final String UNABLE_TO_SET_PROPERTY =
         "Unable to set property '%s' because of '%s'";
 
+    /**
+     * @return a view on the elements not yet consumed from the given iterator, usable only once
+     */
+    private static <T> Iterable<T> remaining(final Iterator<T> elements) {
+        return () -> elements;
+    }
+
+    private static Object invoke(final Method method, final Object target, final Object... arguments) {
+        return ClassIntrospection.of(target.getClass()).invoke(method, target, arguments);
+    }
+
     /**
      * Writes the property into the given target;
      *
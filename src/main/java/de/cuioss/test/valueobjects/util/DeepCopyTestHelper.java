@@ -13,6 +13,7 @@ import java.util.Collections;
 import java.util.List;
 
 import de.cuioss.test.valueobjects.objects.impl.ExceptionHelper;
+import de.cuioss.test.valueobjects.property.util.ClassIntrospection;
 import de.cuioss.tools.reflect.MoreReflection;
 import lombok.experimental.UtilityClass;
 
@@ -64,8 +65,12 @@ public class DeepCopyTestHelper {
 
         final var currentPropertyString = determinePropertyString(propertyString);
 
-        for (final Method accessMethod : MoreReflection.retrieveAccessMethods(source.getClass(), ignoreProperties)) {
+        final var introspection = ClassIntrospection.of(source.getClass());
+        for (final Method accessMethod : introspection.getAccessMethods()) {
             var propertyName = MoreReflection.computePropertyNameFromMethodName(accessMethod.getName());
+            if (ignoreProperties.contains(propertyName)) {
+                continue;
+            }
             try {
                 var resultSource = accessMethod.invoke(source);
                 var resultCopy = accessMethod.invoke(copy);
@@ -78,8 +83,7 @@ public class DeepCopyTestHelper {
                     continue;
                 }
                 if (!checkForList(resultSource, resultCopy, currentPropertyString, propertyName)) {
-                    if (!MoreReflection.retrieveWriteMethod(source.getClass(), propertyName,
-                            resultSource.getClass()).isPresent()) {
+                    if (!introspection.findWriteMethod(propertyName, resultSource.getClass()).isPresent()) {
                         continue;
                     }
 
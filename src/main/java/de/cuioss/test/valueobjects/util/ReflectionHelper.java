@@ -7,26 +7,34 @@ import static java.util.Objects.requireNonNull;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
+import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.valueobjects.api.property.PropertyConfig;
 import de.cuioss.test.valueobjects.api.property.PropertyReflectionConfig;
 import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.MapEntryGenerator;
 import de.cuioss.test.valueobjects.property.PropertyMetadata;
 import de.cuioss.test.valueobjects.property.impl.PropertyMetadataImpl;
+import de.cuioss.test.valueobjects.property.util.ClassIntrospection;
 import de.cuioss.test.valueobjects.property.util.CollectionType;
 import de.cuioss.tools.collect.CollectionBuilder;
 import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.property.PropertyHolder;
 import de.cuioss.tools.reflect.MoreReflection;
+import lombok.Value;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -41,6 +49,19 @@ public final class ReflectionHelper {
 
     private static final CuiLogger log = new CuiLogger(ReflectionHelper.class);
 
+    /**
+     * The scanned properties per bean-type and effective filter, see
+     * {@link #scanBeanTypeForProperties(Class, PropertyReflectionConfig)}. Being a
+     * {@link ClassValue} it does not prevent bean-types from being unloaded.
+     */
+    private static final ClassValue<Map<ScanFilter, SortedSet<PropertyMetadata>>> SCANS = new ClassValue<>() {
+
+        @Override
+        protected Map<ScanFilter, SortedSet<PropertyMetadata>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * One stop method for the deriving of configured metadata
      *
@@ -105,13 +126,13 @@ public final class ReflectionHelper {
     }
 
     /**
-     * Uses {@link MoreReflection} to scan the concrete bean and describe the properties with
+     * Uses {@link ClassIntrospection} to scan the concrete bean and describe the properties with
      * fitting {@link PropertyMetadata}. Each property will contain the derived data for the
      * attributes:
      * <ul>
      * <li>{@link PropertyMetadata#getName()}</li>
      * <li>{@link PropertyMetadata#getGenerator()} with the generator being dynamically resolved
-     * using {@link GeneratorResolver#resolveGenerator(Class)}</li>
+     * using {@link GeneratorResolver#resolveGenerator(Class)} on first usage</li>
      * <li>{@link PropertyMetadata#getPropertyReadWrite()}</li>
      * <li>{@link PropertyMetadata#getCollectionType()}</li>
      * <li>{@link PropertyMetadata#getPropertyMemberInfo()}</li>
@@ -121,6 +142,11 @@ public final class ReflectionHelper {
      * <li>{@link PropertyMetadata#isRequired()} defaults to false</li>
      * <li>{@link PropertyMetadata#isDefaultValue()} defaults to false</li>
      * </ul>
+     * The properties are filtered by {@link PropertyReflectionConfig#of()} and
+     * {@link PropertyReflectionConfig#exclude()} prior to creating the metadata, and the generators
+     * are bound lazily, see {@link GeneratorResolver#resolveGeneratorLazily(Type)}. Therefore
+     * filtered properties cost nothing and the result does not depend on the currently registered
+     * generators: The scan is done only once per bean-type and effective filter.
      *
      * @param beanType to be checked by reflection
      * @param config optional instance of {@link PropertyReflectionConfig} used for filtering the
@@ -129,22 +155,30 @@ public final class ReflectionHelper {
      */
     public static SortedSet<PropertyMetadata> scanBeanTypeForProperties(
             final Class<?> beanType, final PropertyReflectionConfig config) {
-        final Set<String> filter = new HashSet<>(PROPERTY_IGNORE_SET);
+        requireNonNull(beanType);
+        final Set<String> excluded = new HashSet<>(PROPERTY_IGNORE_SET);
+        Set<String> whitelist = Collections.emptySet();
         if (null != config) {
-            filter.addAll(Arrays.asList(config.exclude()));
+            excluded.addAll(Arrays.asList(config.exclude()));
+            whitelist = immutableSet(config.of());
         }
+        return SCANS.get(beanType).computeIfAbsent(new ScanFilter(immutableSet(excluded), whitelist),
+                filter -> scanBeanType(beanType, filter));
+    }
+
+    private static SortedSet<PropertyMetadata> scanBeanType(final Class<?> beanType, final ScanFilter filter) {
         final var found = new CollectionBuilder<PropertyMetadata>();
 
+        final var introspection = ClassIntrospection.of(beanType);
         var builder = new CollectionBuilder<PropertyHolder>();
-        for (Method method : MoreReflection.retrieveAccessMethods(beanType)) {
+        for (Method method : introspection.getAccessMethods()) {
             var attributeName = MoreReflection.computePropertyNameFromMethodName(method.getName());
-            if (filter.contains(attributeName)) {
+            if (!filter.accepts(attributeName)) {
                 log.debug("Filtering attribute '%s' for type '%s' as configured", attributeName,
                         beanType);
                 continue;
             }
-            var holder = PropertyHolder.from(beanType,
-                    attributeName);
+            var holder = introspection.getProperty(attributeName);
             if (!holder.isPresent()) {
                 log.info("Unable to extract metadata for type '%s' and method '%s'",
                         beanType, method.getName());
@@ -161,7 +195,8 @@ public final class ReflectionHelper {
     }
 
     /**
-     * Creates a {@link PropertyMetadata} for a given field.
+     * Creates a {@link PropertyMetadata} for a given field. The generator is bound lazily, see
+     * {@link GeneratorResolver#resolveGeneratorLazily(Type)}
      *
      * @param beanType providing the property, must not be null
      * @param propertyHolder identifying the property-metadata, must not be null
@@ -175,20 +210,25 @@ public final class ReflectionHelper {
 
         var collectionType = CollectionType.NO_ITERABLE;
         Class<?> propertyType = propertyHolder.getType();
+        TypedGenerator<?> generator = null;
 
-        final var field = MoreReflection.accessField(beanType, propertyHolder.getName());
+        final var field = ClassIntrospection.of(beanType).getField(propertyHolder.getName());
 
         if (field.isPresent()) {
             final var collectionTypeOption =
-                CollectionType.findResponsibleCollectionType(field.get().getType());
+                CollectionType.findResponsibleCollectionType(field.get().getType())
+                        .filter(type -> !type.isMapType() || isParameterized(field.get()));
             if (collectionTypeOption.isPresent()) {
                 collectionType = collectionTypeOption.get();
                 if (CollectionType.ARRAY_MARKER.equals(collectionType)) {
                     propertyType = field.get().getType().getComponentType();
                 } else {
-                    propertyType =
-                        extractParameterizedType(field.get(), (ParameterizedType) field.get().getGenericType());
+                    generator = resolveElementGenerator(field.get(), collectionType);
+                    propertyType = generator.getType();
                 }
+            } else if (isParameterized(field.get())) {
+                // e.g. Optional<Integer>, composed with the generators for the type-arguments
+                generator = GeneratorResolver.resolveGeneratorLazily(field.get().getGenericType());
             }
         }
         if (null == propertyType) {
@@ -196,6 +236,9 @@ public final class ReflectionHelper {
                     String.format("Unable to extract property '%s' on type '%s'",
                             propertyHolder.getName(), beanType.getName()));
         }
+        if (null == generator) {
+            generator = GeneratorResolver.resolveGeneratorLazily(propertyType);
+        }
         var defaultValued = propertyType.isPrimitive();
         if (defaultValued && CollectionType.ARRAY_MARKER.equals(collectionType)) {
             defaultValued = false;
@@ -203,21 +246,62 @@ public final class ReflectionHelper {
         return PropertyMetadataImpl.builder().name(propertyHolder.getName())
                 .defaultValue(defaultValued).collectionType(collectionType)
                 .propertyMemberInfo(propertyHolder.getMemberInfo()).propertyReadWrite(propertyHolder.getReadWrite())
-                .generator(GeneratorResolver.resolveGenerator(propertyType)).build();
+                .generator(generator).build();
     }
 
-    private static Class<?> extractParameterizedType(final Field field,
-            final ParameterizedType parameterizedType) {
-        try {
-            return (Class<?>) parameterizedType.getActualTypeArguments()[0];
-        } catch (final ClassCastException e) {
+    /**
+     * Creates the lazily bound generator for the elements of a collection-field. Nested generics,
+     * e.g. {@code List<Map<String, X>>}, are composed by
+     * {@link GeneratorResolver#resolveGeneratorLazily(Type)}
+     *
+     * @param field of a collection-type
+     * @param collectionType of the field, in case of {@link CollectionType#isMapType()} the
+     *            generator creates entries, see {@link MapEntryGenerator}
+     * @return the generator for the first type-argument of the field
+     */
+    private static TypedGenerator<?> resolveElementGenerator(final Field field, final CollectionType collectionType) {
+        final var genericType = field.getGenericType();
+        if (!(genericType instanceof ParameterizedType)) {
             throw new IllegalStateException(
                     String.format(
-                            "Unable to determine generic-type for %s, ususally this is the case with nested generics. "
+                            "Unable to determine generic-type for %s, the field is declared as raw-type. "
                                     + "\nYou need to provide a custom @PropertyConfig for this field and exclude it from scanning"
                                     + ", by using PropertyReflectionConfig#exclude.\nSee package-javadoc of de.cuioss.test.valueobjects for samples.",
-                            field.toString()),
-                    e);
+                            field.toString()));
+        }
+        final var arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+        if (collectionType.isMapType()) {
+            return new MapEntryGenerator(GeneratorResolver.resolveGeneratorLazily(arguments[0]),
+                    GeneratorResolver.resolveGeneratorLazily(arguments[1]));
+        }
+        return GeneratorResolver.resolveGeneratorLazily(arguments[0]);
+    }
+
+    /**
+     * Parameterized fields are resolved by their generic type, raw map-fields are not populated,
+     * but generated as empty map, see {@link GeneratorResolver#resolveCollectionGenerator(Class)}
+     */
+    private static boolean isParameterized(final Field field) {
+        return field.getGenericType() instanceof ParameterizedType;
+    }
+
+    /**
+     * The effective filter of a scan, see {@link PropertyReflectionConfig#of()} and
+     * {@link PropertyReflectionConfig#exclude()}
+     */
+    @Value
+    private static class ScanFilter {
+
+        Set<String> excluded;
+
+        /** If not empty, only the contained properties are scanned */
+        Set<String> whitelist;
+
+        boolean accepts(final String name) {
+            if (excluded.contains(name)) {
+                return false;
+            }
+            return whitelist.isEmpty() || whitelist.contains(name);
         }
     }
 
@@ -2,7 +2,7 @@ package de.cuioss.test.valueobjects.util;
 
 import static de.cuioss.tools.string.MoreStrings.isEmpty;
 
-import de.cuioss.test.generator.Generators;
+import de.cuioss.test.valueobjects.generator.GeneratorRandom;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -36,7 +36,7 @@ public class StringCaseShuffler {
         if (!Character.isAlphabetic(c)) {
             return c;
         }
-        if (Generators.booleans().next().booleanValue()) {
+        if (GeneratorRandom.current().nextBoolean()) {
             return Character.toUpperCase(c);
         }
         return Character.toLowerCase(c);
@@ -26,6 +26,7 @@ import de.cuioss.test.valueobjects.testbeans.builder.BuilderContractTestMinimalF
 import de.cuioss.test.valueobjects.testbeans.builder.BuilderWithCollections;
 import de.cuioss.test.valueobjects.testbeans.builder.BuilderWithRequiredAttribute;
 import de.cuioss.test.valueobjects.testbeans.builder.LombokBasedBuilder;
+import de.cuioss.test.valueobjects.testbeans.builder.LombokBasedMapBuilder;
 import de.cuioss.test.valueobjects.testbeans.testgenerator.PropertyMetadataTestDataGenerator;
 
 class BuilderContractImplTest {
@@ -152,4 +153,12 @@ class BuilderContractImplTest {
                 new BuilderFactoryBasedInstantiator<>(LombokBasedBuilder.class), runtimeInformation);
         contract.assertContract();
     }
+
+    @Test
+    void shouldHandleLombokMapBuilder() {
+        final var runtimeInformation = new RuntimeProperties(LombokBasedMapBuilder.METADATA_COMPLETE);
+        final TestContract<LombokBasedMapBuilder> contract = new BuilderContractImpl<>(
+                new BuilderFactoryBasedInstantiator<>(LombokBasedMapBuilder.class), runtimeInformation);
+        contract.assertContract();
+    }
 }
@@ -0,0 +1,74 @@
+package de.cuioss.test.valueobjects.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.generator.Generators;
+
+class BatchGeneratorsTest {
+
+    @Test
+    void shouldFillArray() {
+        final var target = new String[16];
+        assertSame(target, BatchGenerators.fill(Generators.nonEmptyStrings(), target));
+        for (final String element : target) {
+            assertNotNull(element);
+        }
+    }
+
+    @Test
+    void shouldFillCollection() {
+        final var target = new ArrayList<String>(16);
+        assertSame(target, BatchGenerators.fill(Generators.nonEmptyStrings(), target, 16));
+        assertEquals(16, target.size());
+    }
+
+    @Test
+    void shouldCreateTypedArrays() {
+        final var array = BatchGenerators.nextArray(Generators.nonEmptyStrings(), String.class, 4);
+        assertEquals(String[].class, array.getClass());
+        assertEquals(4, ((String[]) array).length);
+        final var randomSized = (String[]) BatchGenerators.nextArray(Generators.nonEmptyStrings(), String.class);
+        assertTrue(randomSized.length >= 2 && randomSized.length <= 12);
+    }
+
+    @Test
+    void shouldCreatePrimitiveArrays() {
+        assertEquals(8, ((int[]) BatchGenerators.nextPrimitiveArray(int.class, 8)).length);
+        assertEquals(long[].class, BatchGenerators.nextPrimitiveArray(long.class, 8).getClass());
+        assertEquals(double[].class, BatchGenerators.nextPrimitiveArray(double.class, 8).getClass());
+        assertEquals(float[].class, BatchGenerators.nextPrimitiveArray(float.class, 8).getClass());
+        assertEquals(boolean[].class, BatchGenerators.nextPrimitiveArray(boolean.class, 8).getClass());
+        assertEquals(byte[].class, BatchGenerators.nextPrimitiveArray(byte.class, 8).getClass());
+        assertEquals(char[].class, BatchGenerators.nextPrimitiveArray(char.class, 8).getClass());
+        assertEquals(short[].class, BatchGenerators.nextPrimitiveArray(short.class, 8).getClass());
+        assertEquals(int[].class, BatchGenerators.nextArray(null, int.class).getClass());
+    }
+
+    @Test
+    void shouldKeepRangeOfFloatingPointGenerators() {
+        final var doubles = (double[]) BatchGenerators.nextPrimitiveArray(double.class, 64);
+        assertTrue(Arrays.stream(doubles).allMatch(value -> value >= Double.MIN_VALUE));
+        assertTrue(Arrays.stream(doubles).anyMatch(value -> value > Float.MAX_VALUE));
+        final var floats = (float[]) BatchGenerators.nextPrimitiveArray(float.class, 64);
+        var exceedsOne = false;
+        for (final float value : floats) {
+            assertTrue(value >= Float.MIN_VALUE);
+            exceedsOne |= value > 1.0f;
+        }
+        assertTrue(exceedsOne);
+    }
+
+    @Test
+    void shouldFailOnNonPrimitive() {
+        assertThrows(IllegalArgumentException.class, () -> BatchGenerators.nextPrimitiveArray(String.class, 1));
+    }
+}
@@ -0,0 +1,51 @@
+package de.cuioss.test.valueobjects.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class GeneratorRandomTest {
+
+    @Test
+    void shouldProvideFallback() {
+        assertNotNull(GeneratorRandom.current());
+        assertSame(GeneratorRandom.current(), GeneratorRandom.current());
+    }
+
+    @Test
+    void shouldBindAndRestore() {
+        final var fallback = GeneratorRandom.current();
+        final var random = new SplittableRandom(4711L);
+        assertNull(GeneratorRandom.bind(random));
+        assertSame(random, GeneratorRandom.current());
+        GeneratorRandom.restore(null);
+        assertSame(fallback, GeneratorRandom.current());
+    }
+
+    @Test
+    void shouldDeriveReproducibleSeeds() {
+        assertEquals(GeneratorRandom.deriveSeed(4711L, "test"), GeneratorRandom.deriveSeed(4711L, "test"));
+        assertNotEquals(GeneratorRandom.deriveSeed(4711L, "test"), GeneratorRandom.deriveSeed(4711L, "other"));
+        final var first = new SplittableRandom(GeneratorRandom.deriveSeed(4711L, "test"));
+        final var second = new SplittableRandom(GeneratorRandom.deriveSeed(4711L, "test"));
+        assertEquals(first.nextLong(), second.nextLong());
+    }
+
+    @Test
+    void shouldUseThreadLocalInstances() throws InterruptedException {
+        final var current = GeneratorRandom.current();
+        final var other = new SplittableRandom[1];
+        final var thread = new Thread(() -> other[0] = GeneratorRandom.current());
+        thread.start();
+        thread.join();
+        assertNotNull(other[0]);
+        assertNotSame(current, other[0]);
+    }
+}
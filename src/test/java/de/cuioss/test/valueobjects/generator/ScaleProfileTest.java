@@ -0,0 +1,56 @@
+package de.cuioss.test.valueobjects.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Array;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.valueobjects.generator.dynamic.impl.ArraysGenerator;
+
+class ScaleProfileTest {
+
+    @Test
+    void shouldDefaultToDefaultSizes() {
+        assertFalse(ScaleProfile.isScaled());
+        assertEquals(ScaleProfile.DEFAULT_SIZES, ScaleProfile.collectionSize());
+    }
+
+    @Test
+    void shouldBindAndRestore() {
+        final var previous = ScaleProfile.bind(1000);
+        try {
+            assertNull(previous);
+            assertTrue(ScaleProfile.isScaled());
+            assertEquals(1000, ScaleProfile.collectionSize());
+            final var nested = ScaleProfile.bind(5);
+            assertEquals(1000, nested);
+            ScaleProfile.restore(nested);
+            assertEquals(1000, ScaleProfile.collectionSize());
+        } finally {
+            ScaleProfile.restore(previous);
+        }
+        assertFalse(ScaleProfile.isScaled());
+    }
+
+    @Test
+    void shouldRejectNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> ScaleProfile.bind(-1));
+    }
+
+    @Test
+    void shouldScaleArrays() {
+        final var generator = ArraysGenerator.getGeneratorForType(String[].class).get();
+        final var previous = ScaleProfile.bind(500);
+        try {
+            assertEquals(500, Array.getLength(generator.next()));
+        } finally {
+            ScaleProfile.restore(previous);
+        }
+        assertTrue(Array.getLength(generator.next()) <= 12);
+    }
+}
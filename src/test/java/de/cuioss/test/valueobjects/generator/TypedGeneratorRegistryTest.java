@@ -6,6 +6,7 @@ import static de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry.regis
 import static de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry.registerGenerator;
 import static de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry.removeGenerator;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.tools.property.PropertyReadWrite;
 
 class TypedGeneratorRegistryTest {
 
@@ -47,4 +50,33 @@ class TypedGeneratorRegistryTest {
         assertTrue(containsGenerator(String.class));
         assertTrue(containsGenerator(boolean.class));
     }
+
+    @Test
+    void shouldOverlayBasicTypes() {
+        registerBasicTypes();
+        final var basic = getGenerator(String.class).get();
+        final TypedGenerator<String> overlay = Generators.letterStrings(1, 2);
+        registerGenerator(overlay);
+        assertSame(overlay, getGenerator(String.class).get());
+        removeGenerator(String.class);
+        assertFalse(containsGenerator(String.class));
+        registerBasicTypes();
+        assertSame(basic, getGenerator(String.class).get());
+    }
+
+    @Test
+    void shouldIsolateBoundScope() {
+        registerBasicTypes();
+        final var scope = TypedGeneratorRegistry.createScope();
+        final var previous = TypedGeneratorRegistry.bindScope(scope);
+        try {
+            assertFalse(containsGenerator(String.class));
+            registerGenerator(Generators.enumValues(PropertyReadWrite.class));
+            assertTrue(containsGenerator(PropertyReadWrite.class));
+        } finally {
+            TypedGeneratorRegistry.restoreScope(previous);
+        }
+        assertTrue(containsGenerator(String.class));
+        assertFalse(containsGenerator(PropertyReadWrite.class));
+    }
 }
@@ -5,19 +5,25 @@ import static de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver.re
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
 import java.util.AbstractList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.valueobjects.api.object.VetoObjectTestContract;
 import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
@@ -28,6 +34,10 @@ import de.cuioss.test.valueobjects.generator.dynamic.impl.EmptyMapGenerator;
 import de.cuioss.test.valueobjects.generator.dynamic.impl.InterfaceProxyGenerator;
 import de.cuioss.test.valueobjects.objects.BuilderInstantiator;
 import de.cuioss.test.valueobjects.testbeans.ComplexBean;
+import de.cuioss.test.valueobjects.testbeans.constructor.BeanWithSingleArgumentConstructor;
+import de.cuioss.test.valueobjects.testbeans.constructor.CyclicAlternativeParentBean;
+import de.cuioss.test.valueobjects.testbeans.constructor.CyclicNonNullParentBean;
+import de.cuioss.test.valueobjects.testbeans.constructor.CyclicParentBean;
 import de.cuioss.tools.property.PropertyMemberInfo;
 
 class GeneratorResolverTest {
@@ -70,6 +80,118 @@ class GeneratorResolverTest {
                 TypedGeneratorRegistry.getGenerator(AbstractList.class).get().getClass());
     }
 
+    @Test
+    void shouldReusePlanAfterClearingRegistry() {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var initial = resolveGenerator(BeanWithSingleArgumentConstructor.class);
+        TypedGeneratorRegistry.clear();
+        TypedGeneratorRegistry.registerBasicTypes();
+        assertFalse(TypedGeneratorRegistry.containsGenerator(BeanWithSingleArgumentConstructor.class));
+        assertSame(initial, resolveGenerator(BeanWithSingleArgumentConstructor.class));
+        assertTrue(TypedGeneratorRegistry.containsGenerator(BeanWithSingleArgumentConstructor.class));
+        assertFalse(TypedGeneratorRegistry.getExplicitGenerator(BeanWithSingleArgumentConstructor.class)
+                .isPresent());
+    }
+
+    @Test
+    void shouldInvalidatePlanOnChangedDependency() {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var initial = resolveGenerator(BeanWithSingleArgumentConstructor.class);
+        TypedGeneratorRegistry.clear();
+        TypedGeneratorRegistry.registerBasicTypes();
+        TypedGeneratorRegistry.registerGenerator(Generators.fixedValues("fixed"));
+        final var resolved = resolveGenerator(BeanWithSingleArgumentConstructor.class);
+        assertNotSame(initial, resolved);
+        assertEquals("fixed", resolved.next().getName());
+    }
+
+    @Test
+    void shouldResolveCyclicConstructorGraph() {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var resolved = resolveGenerator(CyclicParentBean.class);
+        assertEquals(ConstructorBasedGenerator.class, resolved.getClass());
+        final var parent = resolved.next();
+        assertNotNull(parent);
+        assertNotNull(parent.getChild());
+        assertNotNull(parent.getChild().getParent());
+        assertNull(parent.getChild().getParent().getChild().getParent());
+    }
+
+    @Test
+    void shouldPreferConstructorWithoutBackEdge() {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var parent = resolveGenerator(CyclicAlternativeParentBean.class).next();
+        assertNull(parent.getChild().getParent());
+        assertNotNull(parent.getChild().getSibling());
+    }
+
+    @Test
+    void shouldNameCycleRejectingNull() {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var generator = resolveGenerator(CyclicNonNullParentBean.class);
+        final var thrown = assertThrows(IllegalStateException.class, generator::next);
+        assertTrue(thrown.getMessage().contains(CyclicNonNullParentBean.class.getName()), thrown.getMessage());
+    }
+
+    @Test
+    void shouldHonorRegistrationsForBackEdges() {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var generator = resolveGenerator(CyclicParentBean.class);
+        assertNotNull(generator.next().getChild().getParent());
+        final var fixed = new CyclicParentBean(null);
+        TypedGeneratorRegistry.registerGenerator(Generators.fixedValues(CyclicParentBean.class, fixed));
+        assertSame(fixed, generator.next().getChild().getParent());
+    }
+
+    @Test
+    void shouldResolveNestedGenericTypes() throws NoSuchFieldException {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var type = GenericTypes.class.getDeclaredField("nested").getGenericType();
+        final var resolved = resolveGenerator(type);
+        assertEquals(List.class, resolved.getType());
+        assertSame(resolved, resolveGenerator(type));
+        final var list = (List<?>) resolved.next();
+        assertFalse(list.isEmpty());
+        final var map = (Map<?, ?>) list.get(0);
+        assertFalse(map.isEmpty());
+        final var entry = map.entrySet().iterator().next();
+        assertEquals(String.class, entry.getKey().getClass());
+        assertTrue(entry.getValue() instanceof Set);
+    }
+
+    @Test
+    void shouldResolveWildcardsAndGenericArrays() throws NoSuchFieldException {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var wildcard = (ParameterizedType) GenericTypes.class.getDeclaredField("wildcard").getGenericType();
+        assertEquals(String.class, resolveGenerator(wildcard.getActualTypeArguments()[0]).getType());
+        final var array = resolveGenerator(GenericTypes.class.getDeclaredField("array").getGenericType());
+        assertEquals(List[].class, array.getType());
+        assertTrue(((List<?>[]) array.next()).length > 0);
+        final var sorted = resolveGenerator(GenericTypes.class.getDeclaredField("sorted").getGenericType());
+        assertTrue(sorted.next() instanceof SortedMap);
+    }
+
+    @Test
+    void shouldHonorScopedGeneratorsForComposedTypes() throws NoSuchFieldException {
+        TypedGeneratorRegistry.registerBasicTypes();
+        final var type = GenericTypes.class.getDeclaredField("wildcard").getGenericType();
+        final var resolved = resolveGenerator(type);
+        TypedGeneratorRegistry.registerGenerator(Generators.fixedValues(String.class, "fixed"));
+        assertEquals("fixed", ((List<?>) resolved.next()).get(0));
+    }
+
+    @SuppressWarnings("unused")
+    private static class GenericTypes {
+
+        private List<Map<String, Set<Integer>>> nested;
+
+        private List<? extends String> wildcard;
+
+        private List<String>[] array;
+
+        private SortedMap<String, Integer> sorted;
+    }
+
     @Test
     void shouldResolvePrimitiveArrayGenerator() {
         TypedGeneratorRegistry.registerBasicTypes();
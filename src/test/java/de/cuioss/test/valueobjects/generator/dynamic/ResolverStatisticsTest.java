@@ -0,0 +1,48 @@
+package de.cuioss.test.valueobjects.generator.dynamic;
+
+import static de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver.resolveGenerator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.dynamic.ResolverStatistics.Stage;
+
+class ResolverStatisticsTest {
+
+    @SuppressWarnings("javadoc")
+    public abstract static class AbstractStatisticsBean {
+    }
+
+    @BeforeEach
+    void before() {
+        TypedGeneratorRegistry.clear();
+        TypedGeneratorRegistry.registerBasicTypes();
+    }
+
+    @Test
+    void shouldRecordStages() {
+        final var before = ResolverStatistics.snapshot();
+        resolveGenerator(String.class);
+        resolveGenerator(AbstractStatisticsBean.class);
+        final var delta = ResolverStatistics.snapshot().since(before);
+        assertTrue(delta.getHits(Stage.REGISTRY) >= 1);
+        assertTrue(delta.getHits(Stage.DYNAMIC_PROXY) >= 1);
+        assertTrue(delta.getNanos(Stage.DYNAMIC_PROXY) > 0);
+        assertTrue(delta.getJavassistTypes().contains(AbstractStatisticsBean.class.getName()));
+        assertTrue(delta.toString().contains(AbstractStatisticsBean.class.getName()));
+    }
+
+    @Test
+    void shouldComputeEmptyDelta() {
+        final var snapshot = ResolverStatistics.snapshot();
+        final var delta = snapshot.since(snapshot);
+        for (final Stage stage : Stage.values()) {
+            assertEquals(0, delta.getHits(stage));
+            assertEquals(0, delta.getNanos(stage));
+        }
+        assertTrue(delta.getJavassistTypes().isEmpty());
+    }
+}
@@ -3,8 +3,10 @@ package de.cuioss.test.valueobjects.generator.dynamic.impl;
 import static de.cuioss.test.valueobjects.generator.dynamic.impl.ConstructorBasedGenerator.getGeneratorForType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
@@ -21,6 +23,7 @@ import de.cuioss.test.valueobjects.property.impl.PropertyMetadataImpl;
 import de.cuioss.test.valueobjects.testbeans.ComplexBean;
 import de.cuioss.test.valueobjects.testbeans.constructor.BeanWithMultipleArgumentConstructor;
 import de.cuioss.test.valueobjects.testbeans.constructor.BeanWithMultiplePublicConstructor;
+import de.cuioss.test.valueobjects.testbeans.constructor.BeanWithPrimitiveArgumentConstructor;
 import de.cuioss.test.valueobjects.testbeans.constructor.BeanWithSingleArgumentConstructor;
 import de.cuioss.tools.property.PropertyMemberInfo;
 
@@ -101,6 +104,22 @@ class ConstructorBasedGeneratorTest {
         assertNotNull(next.getPropertyClass());
     }
 
+    @Test
+    void shouldHandlePrimitiveConstructor() {
+        final var generator = getGeneratorForType(BeanWithPrimitiveArgumentConstructor.class).get();
+        final var next = generator.next();
+        assertNotNull(next);
+        assertNotNull(next.getIntegerObject());
+        assertTrue(next.getCharValue() >= ' ');
+    }
+
+    @Test
+    void shouldWrapFailingConstructor() {
+        final var generator = getGeneratorForType(BeanWithFailingConstructor.class).get();
+        final var exception = assertThrows(IllegalStateException.class, generator::next);
+        assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+    }
+
     @Test
     void shouldNotHandleInvalidTypes() {
         assertFalse(getGeneratorForType(null).isPresent());
@@ -109,4 +128,11 @@ class ConstructorBasedGeneratorTest {
         assertFalse(getGeneratorForType(AbstractList.class).isPresent());
         assertFalse(getGeneratorForType(VetoObjectTestContract.class).isPresent());
     }
+
+    public static class BeanWithFailingConstructor {
+
+        public BeanWithFailingConstructor(final int value) {
+            throw new UnsupportedOperationException("Failing for " + value);
+        }
+    }
 }
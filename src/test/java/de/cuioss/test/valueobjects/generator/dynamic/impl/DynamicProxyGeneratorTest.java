@@ -4,6 +4,7 @@ import static de.cuioss.test.valueobjects.generator.dynamic.impl.DynamicProxyGen
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
@@ -39,6 +40,13 @@ class DynamicProxyGeneratorTest {
         assertNotNull(next.iterator());
     }
 
+    @Test
+    void shouldReuseProxyClass() {
+        final var first = getGeneratorForType(AbstractList.class).get().next();
+        final var second = getGeneratorForType(AbstractList.class).get().next();
+        assertSame(first.getClass(), second.getClass());
+    }
+
     @Test
     void shouldNotHandleInvalidTypes() {
         assertFalse(getGeneratorForType(null).isPresent());
@@ -0,0 +1,49 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.valueobjects.generator.DistinctValueGenerator;
+import de.cuioss.tools.property.PropertyReadWrite;
+
+class EnumValuesGeneratorTest {
+
+    @Test
+    void shouldCreateDistinctConstantsDirectly() {
+        final var generator = (DistinctValueGenerator<TimeUnit>) EnumValuesGenerator
+                .getGeneratorForType(TimeUnit.class).get();
+        assertEquals(TimeUnit.values().length, generator.domainSize());
+        for (final TimeUnit unit : TimeUnit.values()) {
+            for (var i = 0; i < 20; i++) {
+                assertNotEquals(unit, generator.nextDistinctFrom(unit));
+            }
+        }
+        assertInstanceOf(TimeUnit.class, generator.next());
+    }
+
+    @Test
+    void shouldRejectSingleConstant() {
+        final var generator = (DistinctValueGenerator<Single>) EnumValuesGenerator
+                .getGeneratorForType(Single.class).get();
+        assertEquals(1, generator.domainSize());
+        assertThrows(IllegalStateException.class, () -> generator.nextDistinctFrom(Single.ONLY));
+    }
+
+    @Test
+    void shouldIgnoreNonEnums() {
+        assertFalse(EnumValuesGenerator.getGeneratorForType(String.class).isPresent());
+        assertEquals(PropertyReadWrite.class,
+                EnumValuesGenerator.getGeneratorForType(PropertyReadWrite.class).get().getType());
+    }
+
+    enum Single {
+        ONLY
+    }
+}
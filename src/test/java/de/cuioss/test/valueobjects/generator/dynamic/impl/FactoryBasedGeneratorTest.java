@@ -0,0 +1,75 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import static de.cuioss.test.valueobjects.generator.dynamic.impl.FactoryBasedGenerator.getGeneratorForType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import de.cuioss.test.valueobjects.testbeans.ComplexBean;
+import de.cuioss.test.valueobjects.testbeans.factory.BadFactoryBean;
+import de.cuioss.test.valueobjects.testbeans.factory.BuilderOnlyBean;
+import de.cuioss.test.valueobjects.testbeans.factory.GenericFactoryOnlyBean;
+import de.cuioss.test.valueobjects.testbeans.factory.StaticFactoryOnlyBean;
+
+class FactoryBasedGeneratorTest {
+
+    @BeforeEach
+    void before() {
+        TypedGeneratorRegistry.registerBasicTypes();
+    }
+
+    @AfterEach
+    void after() {
+        TypedGeneratorRegistry.clear();
+    }
+
+    @Test
+    void shouldUseBuilder() {
+        final var generator = getGeneratorForType(BuilderOnlyBean.class);
+        assertTrue(generator.isPresent());
+        assertEquals(BuilderOnlyBean.class, generator.get().getType());
+        for (var i = 0; i < 100; i++) {
+            final var next = generator.get().next();
+            assertNotNull(next.getName());
+            assertFalse(next.getTags().isEmpty());
+        }
+    }
+
+    @Test
+    void shouldUseWorkingStaticFactory() {
+        final var generator = getGeneratorForType(StaticFactoryOnlyBean.class);
+        assertTrue(generator.isPresent());
+        assertTrue(generator.get().toString().contains("valueOf(int)"));
+        assertNotNull(generator.get().next());
+    }
+
+    @Test
+    void shouldResolveParametersByGenericType() {
+        final var values = getGeneratorForType(GenericFactoryOnlyBean.class).get().next().getValues();
+        assertFalse(values.isEmpty());
+        values.forEach(value -> assertInstanceOf(Integer.class, value));
+        final var tags = getGeneratorForType(BuilderOnlyBean.class).get().next().getTags();
+        tags.forEach(tag -> assertInstanceOf(String.class, tag));
+        assertTrue(tags.size() > 1);
+    }
+
+    @Test
+    void shouldIgnoreTypesWithPublicConstructor() {
+        assertFalse(getGeneratorForType(ComplexBean.class).isPresent());
+        assertFalse(getGeneratorForType(BadFactoryBean.class).isPresent());
+        assertFalse(getGeneratorForType(Runnable.class).isPresent());
+    }
+
+    @Test
+    void shouldBeUsedByResolver() {
+        assertInstanceOf(FactoryBasedGenerator.class, GeneratorResolver.resolveGenerator(BuilderOnlyBean.class));
+    }
+}
@@ -4,7 +4,9 @@ import static de.cuioss.test.valueobjects.generator.dynamic.impl.InterfaceProxyG
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
@@ -14,6 +16,7 @@ import java.util.SortedSet;
 import org.junit.jupiter.api.Test;
 
 import de.cuioss.test.valueobjects.api.object.VetoObjectTestContract;
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
 import de.cuioss.tools.property.PropertyMemberInfo;
 
 class InterfaceProxyGeneratorTest {
@@ -40,6 +43,69 @@ class InterfaceProxyGeneratorTest {
         assertNull(next.iterator());
     }
 
+    @Test
+    void shouldCreateNewInstancesOfSameProxyClass() {
+        final var generator = getGeneratorForType(Serializable.class).get();
+        final var first = generator.next();
+        final var second = generator.next();
+        assertNotSame(first, second);
+        assertSame(first.getClass(), second.getClass());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void shouldHandleNonPublicInterface() {
+        final var generator = getGeneratorForType(PackagePrivateInterface.class).get();
+        assertNotNull(generator.next());
+    }
+
+    @Test
+    void shouldReuseConfiguredInstances() {
+        System.setProperty(InterfaceProxyGenerator.INSTANCE_POOL_SIZE_KEY, "2");
+        try {
+            final var generator = getGeneratorForType(Serializable.class).get();
+            final var first = generator.next();
+            final var second = generator.next();
+            assertNotSame(first, second);
+            assertSame(first, generator.next());
+            assertSame(second, generator.next());
+        } finally {
+            System.clearProperty(InterfaceProxyGenerator.INSTANCE_POOL_SIZE_KEY);
+        }
+    }
+
+    @Test
+    void shouldAnswerPrimitiveMethods() {
+        final var next = getGeneratorForType(SortedSet.class).get().next();
+        assertFalse(next.contains("test"));
+        assertFalse(next.add("test"));
+        assertEquals(next.size(), next.size());
+    }
+
+    @Test
+    void shouldAnswerTypeDefaults() {
+        final var collection = getGeneratorForType(SortedSet.class).get().next();
+        assertEquals(0, collection.size());
+        assertNull(collection.first());
+    }
+
+    @Test
+    void shouldMemoizeGeneratedGetterValues() {
+        TypedGeneratorRegistry.registerBasicTypes();
+        try {
+            final var first = getGeneratorForType(PackagePrivateInterface.class).get().next();
+            assertNotNull(first.getName());
+            assertEquals(first.getName(), first.getName());
+            assertEquals(first.getCount(), first.getCount());
+            assertEquals(first.isActive(), first.isActive());
+            assertEquals(0, first.indexOf("name"));
+            assertNull(first.getParent());
+            assertNull(first.getType());
+        } finally {
+            TypedGeneratorRegistry.clear();
+        }
+    }
+
     @Test
     void shouldNotHandleInvalidTypes() {
         assertFalse(getGeneratorForType(null).isPresent());
@@ -47,4 +113,19 @@ class InterfaceProxyGeneratorTest {
         assertFalse(getGeneratorForType(AbstractList.class).isPresent());
         assertFalse(getGeneratorForType(VetoObjectTestContract.class).isPresent());
     }
+
+    interface PackagePrivateInterface {
+
+        String getName();
+
+        long getCount();
+
+        boolean isActive();
+
+        int indexOf(String name);
+
+        Runnable getParent();
+
+        Class<?> getType();
+    }
 }
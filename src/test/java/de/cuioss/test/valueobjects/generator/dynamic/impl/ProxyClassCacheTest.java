@@ -0,0 +1,48 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.AbstractCollection;
+import java.util.AbstractQueue;
+import java.util.AbstractSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javassist.util.proxy.MethodFilter;
+
+class ProxyClassCacheTest {
+
+    private static final MethodFilter FILTER = m -> "equals".equals(m.getName());
+
+    private static final MethodFilter OTHER_FILTER = m -> "hashCode".equals(m.getName());
+
+    @Test
+    void shouldDefineProxyClassOnlyOnce() {
+        final var defined = ProxyClassCache.getClassesDefined();
+        final var hits = ProxyClassCache.getCacheHits();
+        final var proxyClass = ProxyClassCache.getProxyClass(AbstractSet.class, FILTER);
+        assertTrue(AbstractSet.class.isAssignableFrom(proxyClass));
+        assertSame(proxyClass, ProxyClassCache.getProxyClass(AbstractSet.class, FILTER));
+        assertEquals(defined + 1, ProxyClassCache.getClassesDefined());
+        assertEquals(hits + 1, ProxyClassCache.getCacheHits());
+    }
+
+    @Test
+    void shouldDistinguishFilter() {
+        assertNotSame(ProxyClassCache.getProxyClass(AbstractCollection.class, FILTER),
+                ProxyClassCache.getProxyClass(AbstractCollection.class, OTHER_FILTER));
+    }
+
+    @Test
+    void shouldDefineProxyClassOnceForConcurrentRequests() {
+        final var proxyClasses = IntStream.range(0, 16).parallel()
+                .mapToObj(i -> ProxyClassCache.getProxyClass(AbstractQueue.class, FILTER))
+                .collect(Collectors.toSet());
+        assertEquals(1, proxyClasses.size());
+    }
+}
@@ -0,0 +1,55 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.impl.PooledGenerator;
+import de.cuioss.test.valueobjects.property.impl.PropertyMetadataImpl;
+import de.cuioss.test.valueobjects.property.util.DistinctValueSampler;
+
+class ResolvingGeneratorTest {
+
+    @BeforeEach
+    void before() {
+        TypedGeneratorRegistry.registerBasicTypes();
+    }
+
+    @AfterEach
+    void after() {
+        TypedGeneratorRegistry.clear();
+    }
+
+    @Test
+    void shouldResolveOncePerGeneration() {
+        final var generator = new ResolvingGenerator<>(String.class);
+        final var delegate = generator.getDelegate();
+        assertSame(delegate, generator.getDelegate());
+        final var fixed = Generators.fixedValues(String.class, "fixed");
+        TypedGeneratorRegistry.registerGenerator(fixed);
+        assertNotSame(delegate, generator.getDelegate());
+        assertEquals("fixed", generator.next());
+    }
+
+    @Test
+    void shouldExposeCapabilityOfDelegate() {
+        final var pooled = new PooledGenerator<>(Generators.fixedValues(String.class, "single"), 1);
+        pooled.warmUp();
+        TypedGeneratorRegistry.registerGenerator(pooled);
+        final var generator = new ResolvingGenerator<>(String.class);
+        assertSame(pooled, ResolvingGenerator.unwrap(generator));
+        final var metadata = PropertyMetadataImpl.builder().name("name").generator(generator)
+                .propertyClass(String.class).build();
+        final var sampler = new DistinctValueSampler();
+        final var error = assertThrows(AssertionError.class, () -> metadata.nextDistinctFrom("single", sampler));
+        assertTrue(error.getMessage().contains("domain-size is 1"));
+    }
+}
@@ -0,0 +1,104 @@
+package de.cuioss.test.valueobjects.generator.dynamic.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.SubclassGeneratorTest.Shape.Circle;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.SubclassGeneratorTest.Shape.Square;
+
+class SubclassGeneratorTest {
+
+    @BeforeEach
+    void before() {
+        TypedGeneratorRegistry.registerBasicTypes();
+    }
+
+    @AfterEach
+    void after() {
+        TypedGeneratorRegistry.clear();
+    }
+
+    @Test
+    void shouldUseNestedImplementations() {
+        assertEquals(2, SubclassIndex.concreteSubclasses(Shape.class).size());
+        final var generator = SubclassGenerator.getGeneratorForType(Shape.class).get();
+        final Set<Class<?>> created = new HashSet<>();
+        for (var i = 0; i < 4; i++) {
+            created.add(generator.next().getClass());
+        }
+        assertEquals(Set.of(Circle.class, Square.class), created);
+    }
+
+    @Test
+    void shouldBeUsedByResolverInsteadOfProxy() {
+        assertInstanceOf(SubclassGenerator.class, GeneratorResolver.resolveGenerator(Shape.class));
+    }
+
+    @Test
+    void shouldUseRegisteredImplementations() {
+        assertTrue(SubclassIndex.concreteSubclasses(AbstractList.class).isEmpty());
+        SubclassIndex.register(AbstractList.class, ArrayList.class, LinkedList.class);
+        final var generator = SubclassGenerator.getGeneratorForType(AbstractList.class).get();
+        assertInstanceOf(ArrayList.class, generator.next());
+        assertInstanceOf(LinkedList.class, generator.next());
+        assertThrows(IllegalArgumentException.class, () -> SubclassIndex.register(AbstractList.class));
+    }
+
+    @Test
+    void shouldDropRegistrationsWithScope() {
+        final var previous = TypedGeneratorRegistry.bindScope(TypedGeneratorRegistry.createScope());
+        try {
+            TypedGeneratorRegistry.registerBasicTypes();
+            SubclassIndex.register(AbstractList.class, LinkedList.class);
+            assertInstanceOf(LinkedList.class, GeneratorResolver.resolveGenerator(AbstractList.class).next());
+        } finally {
+            TypedGeneratorRegistry.restoreScope(previous);
+        }
+        assertTrue(SubclassIndex.concreteSubclasses(AbstractList.class).isEmpty());
+        SubclassIndex.register(AbstractList.class, ArrayList.class);
+        TypedGeneratorRegistry.clear();
+        assertTrue(SubclassIndex.concreteSubclasses(AbstractList.class).isEmpty());
+    }
+
+    @Test
+    void shouldResolvePermittedSubclasses() throws ClassNotFoundException {
+        assumeTrue(Runtime.version().feature() >= 17, "Sealed types require java 17");
+        // Loaded reflectively, because the sources are compiled for java 11
+        final var sealedType = Class.forName("java.lang.constant.ConstantDesc");
+        final var subclasses = SubclassIndex.concreteSubclasses(sealedType);
+        assertTrue(subclasses.contains(String.class));
+        assertTrue(subclasses.contains(Integer.class));
+    }
+
+    @Test
+    void shouldIgnoreTypesWithoutKnownSubclasses() {
+        assertFalse(SubclassGenerator.getGeneratorForType(Runnable.class).isPresent());
+        assertFalse(SubclassGenerator.getGeneratorForType(AbstractList.class).isPresent());
+    }
+
+    @SuppressWarnings("javadoc")
+    public abstract static class Shape {
+
+        public static class Circle extends Shape {
+        }
+
+        public static class Square extends Shape {
+        }
+    }
+}
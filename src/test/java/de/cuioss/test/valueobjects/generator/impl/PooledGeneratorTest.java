@@ -0,0 +1,77 @@
+package de.cuioss.test.valueobjects.generator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.generator.JavaTypesGenerator;
+
+class PooledGeneratorTest {
+
+    @Test
+    void shouldDelegateBeforeWarmUp() {
+        final var pooled = new PooledGenerator<>(Generators.locales(), 8);
+        assertFalse(pooled.isWarmedUp());
+        assertNotNull(pooled.next());
+        assertEquals(Locale.class, pooled.getType());
+    }
+
+    @Test
+    void shouldCycleDistinctValues() {
+        final var pooled = new PooledGenerator<>(Generators.integers(0, 1000), 4);
+        pooled.warmUp();
+        assertTrue(pooled.isWarmedUp());
+        final var values = new HashSet<Integer>();
+        Integer previous = null;
+        for (var i = 0; i < 8; i++) {
+            final var current = pooled.next();
+            assertNotEquals(previous, current);
+            values.add(current);
+            previous = current;
+        }
+        assertEquals(4, values.size());
+    }
+
+    @Test
+    void shouldHandleLowEntropy() {
+        final var pooled = new PooledGenerator<>(Generators.fixedValues("fixed"), 4);
+        pooled.warmUp();
+        assertEquals("fixed", pooled.next());
+        assertEquals("fixed", pooled.next());
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        final var generator = Generators.locales();
+        assertEquals(0, PooledGenerator.configuredPoolSize());
+        assertSame(generator, PooledGenerator.pooled(generator));
+    }
+
+    @Test
+    void shouldFailOnInvalidSize() {
+        final var generator = Generators.locales();
+        assertThrows(IllegalArgumentException.class, () -> new PooledGenerator<>(generator, 0));
+    }
+
+    @Test
+    void shouldNotPoolMutableTypes() {
+        final var pooledTypes = JavaTypesGenerator.expensiveGenerators().stream().map(TypedGenerator::getType)
+                .collect(Collectors.toSet());
+        assertTrue(pooledTypes.contains(Locale.class));
+        assertFalse(pooledTypes.contains(Throwable.class));
+        assertFalse(pooledTypes.contains(TimeZone.class));
+    }
+}
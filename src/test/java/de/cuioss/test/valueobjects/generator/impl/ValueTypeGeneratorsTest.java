@@ -0,0 +1,92 @@
+package de.cuioss.test.valueobjects.generator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.dynamic.GeneratorResolver;
+
+class ValueTypeGeneratorsTest {
+
+    private static final int RUNS = 1000;
+
+    @Test
+    void shouldCreateRandomUuids() {
+        final var generator = ValueTypeGenerators.uuids();
+        assertEquals(UUID.class, generator.getType());
+        for (var i = 0; i < RUNS; i++) {
+            final var uuid = generator.next();
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertEquals(uuid, UUID.fromString(uuid.toString()));
+        }
+    }
+
+    @Test
+    void shouldCreateValuesInRange() {
+        final var lower = Instant.parse("1900-01-01T00:00:00Z");
+        final var upper = Instant.parse("2100-01-01T00:00:00Z");
+        for (var i = 0; i < RUNS; i++) {
+            final var instant = ValueTypeGenerators.instants().next();
+            assertFalse(instant.isBefore(lower));
+            assertTrue(instant.isBefore(upper));
+            assertFalse(ValueTypeGenerators.durations().next().isNegative());
+            assertFalse(ValueTypeGenerators.periods().next().isNegative());
+            final var offsetDateTime = ValueTypeGenerators.offsetDateTimes().next();
+            assertEquals(0, offsetDateTime.getOffset().getTotalSeconds() % 900);
+            assertTrue(ValueTypeGenerators.bigDecimals().next().scale() <= 10);
+        }
+    }
+
+    @Test
+    void shouldProvideTypes() {
+        assertEquals(Instant.class, ValueTypeGenerators.instants().getType());
+        assertEquals(Duration.class, ValueTypeGenerators.durations().getType());
+        assertEquals(Period.class, ValueTypeGenerators.periods().getType());
+        assertEquals(BigDecimal.class, ValueTypeGenerators.bigDecimals().getType());
+        assertEquals(BigInteger.class, ValueTypeGenerators.bigIntegers().getType());
+        assertEquals(OffsetDateTime.class, ValueTypeGenerators.offsetDateTimes().getType());
+        assertEquals(Optional.class, ValueTypeGenerators.optionals(Generators.letterStrings()).getType());
+    }
+
+    @Test
+    void shouldCreateMostlyPresentOptionals() {
+        final var generator = ValueTypeGenerators.optionals(Generators.letterStrings());
+        var present = 0;
+        for (var i = 0; i < RUNS; i++) {
+            final Optional<?> next = generator.next();
+            assertNotNull(next);
+            if (next.isPresent()) {
+                assertTrue(next.get() instanceof String);
+                present++;
+            }
+        }
+        assertTrue(present > RUNS / 2);
+        assertTrue(present < RUNS);
+    }
+
+    @Test
+    void shouldBeRegisteredAsBasicTypes() {
+        TypedGeneratorRegistry.clear();
+        TypedGeneratorRegistry.registerBasicTypes();
+        assertEquals(UUID.class, GeneratorResolver.resolveGenerator(UUID.class).getType());
+        assertTrue(GeneratorResolver.resolveGenerator(BigInteger.class) instanceof SupplierGenerator);
+        // Optional<X> is composed by its generic type, see GenericTypeResolver
+        assertFalse(TypedGeneratorRegistry.containsGenerator(Optional.class));
+        TypedGeneratorRegistry.clear();
+    }
+}
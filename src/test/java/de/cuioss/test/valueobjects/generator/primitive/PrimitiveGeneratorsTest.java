@@ -0,0 +1,78 @@
+package de.cuioss.test.valueobjects.generator.primitive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.valueobjects.generator.DistinctValueGenerator;
+
+class PrimitiveGeneratorsTest {
+
+    @Test
+    void shouldProvidePrimitiveTypes() {
+        assertEquals(int.class, PrimitiveGenerators.integers().getType());
+        assertEquals(long.class, PrimitiveGenerators.longs().getType());
+        assertEquals(double.class, PrimitiveGenerators.doubles().getType());
+        assertEquals(float.class, PrimitiveGenerators.floats().getType());
+        assertEquals(boolean.class, PrimitiveGenerators.booleans().getType());
+        assertEquals(byte.class, PrimitiveGenerators.bytes().getType());
+        assertEquals(short.class, PrimitiveGenerators.shorts().getType());
+        assertEquals(char.class, PrimitiveGenerators.characters().getType());
+        assertNotNull(PrimitiveGenerators.integers().next());
+    }
+
+    @Test
+    void shouldCreateDistinctBooleans() {
+        final var generator = (DistinctValueGenerator<Boolean>) PrimitiveGenerators.booleans();
+        assertEquals(2, generator.domainSize());
+        assertFalse(generator.nextDistinctFrom(Boolean.TRUE));
+        assertEquals(Boolean.class, PrimitiveGenerators.booleanObjects().getType());
+    }
+
+    @Test
+    void shouldCreatePrintableCharacters() {
+        final var generator = PrimitiveGenerators.characters();
+        for (var i = 0; i < 1000; i++) {
+            final var next = generator.nextChar();
+            assertTrue(next >= ' ' && next <= '~');
+        }
+    }
+
+    @Test
+    void shouldKeepRangeOfFloatingPointGenerators() {
+        final var doubles = PrimitiveGenerators.doubles();
+        final var floats = PrimitiveGenerators.floats();
+        var exceedsFloat = false;
+        var exceedsOne = false;
+        for (var i = 0; i < 64; i++) {
+            final var nextDouble = doubles.nextDouble();
+            final var nextFloat = floats.nextFloat();
+            assertTrue(nextDouble >= Double.MIN_VALUE);
+            assertTrue(nextFloat >= Float.MIN_VALUE);
+            exceedsFloat |= nextDouble > Float.MAX_VALUE;
+            exceedsOne |= nextFloat > 1.0f;
+        }
+        assertTrue(exceedsFloat);
+        assertTrue(exceedsOne);
+    }
+
+    @Test
+    void shouldProvideUnboxedSource() throws Throwable {
+        final IntGenerator generator = () -> 42;
+        final var handle = PrimitiveGenerators.unboxedSource(generator, int.class).get();
+        assertEquals(42, (int) handle.invokeExact());
+        final var booleanHandle = PrimitiveGenerators.unboxedSource(PrimitiveGenerators.booleans(), boolean.class);
+        assertTrue(booleanHandle.isPresent());
+    }
+
+    @Test
+    void shouldNotProvideUnboxedSourceForOtherGenerators() {
+        assertFalse(PrimitiveGenerators.unboxedSource(Generators.integers(), int.class).isPresent());
+        assertFalse(PrimitiveGenerators.unboxedSource(PrimitiveGenerators.integers(), long.class).isPresent());
+        assertFalse(PrimitiveGenerators.unboxedSource(PrimitiveGenerators.integers(), Integer.class).isPresent());
+    }
+}
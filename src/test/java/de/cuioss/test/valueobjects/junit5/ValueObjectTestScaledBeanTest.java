@@ -0,0 +1,25 @@
+package de.cuioss.test.valueobjects.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.valueobjects.ValueObjectTest;
+import de.cuioss.test.valueobjects.api.contracts.VerifyBeanProperty;
+import de.cuioss.test.valueobjects.api.object.ObjectTestConfig;
+import de.cuioss.test.valueobjects.junit5.testbeans.ComplexBean;
+import de.cuioss.test.valueobjects.property.PropertyMetadata;
+
+@VerifyBeanProperty(exclude = "badstring", defaultValued = "stringWithDefault")
+@ObjectTestConfig(equalsAndHashCodeExclude = "noObjectIdentitiyString", collectionSize = 1000)
+class ValueObjectTestScaledBeanTest extends ValueObjectTest<ComplexBean> {
+
+    @Test
+    void shouldCreateScaledCollections() {
+        final PropertyMetadata stringList = getPropertyMetadata().stream()
+                .filter(metadata -> "stringList".equals(metadata.getName())).findFirst().orElseThrow();
+        assertEquals(1000, ((List<?>) stringList.next()).size());
+    }
+}
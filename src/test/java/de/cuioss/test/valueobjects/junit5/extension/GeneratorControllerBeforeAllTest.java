@@ -0,0 +1,50 @@
+package de.cuioss.test.valueobjects.junit5.extension;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.SubclassIndex;
+import de.cuioss.tools.property.PropertyMemberInfo;
+import de.cuioss.tools.property.PropertyReadWrite;
+
+@ExtendWith(GeneratorRegistryController.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class GeneratorControllerBeforeAllTest {
+
+    @BeforeAll
+    static void registerInBeforeAll() {
+        TypedGeneratorRegistry.registerGenerator(Generators.enumValues(PropertyReadWrite.class));
+    }
+
+    @Test
+    @Order(1)
+    void shouldUseClassScopeWithinBeforeAll() {
+        assertTrue(TypedGeneratorRegistry.containsGenerator(PropertyReadWrite.class));
+    }
+
+    @Test
+    @Order(2)
+    void shouldRegisterWithinTestMethod() {
+        TypedGeneratorRegistry.registerGenerator(Generators.enumValues(PropertyMemberInfo.class));
+        SubclassIndex.register(CharSequence.class, String.class);
+        assertTrue(TypedGeneratorRegistry.containsGenerator(PropertyMemberInfo.class));
+        assertTrue(TypedGeneratorRegistry.containsGenerator(CharSequence.class));
+    }
+
+    @Test
+    @Order(3)
+    void shouldNotLeakRegistrationsOfPreviousTestMethod() {
+        assertFalse(TypedGeneratorRegistry.containsGenerator(PropertyMemberInfo.class));
+        assertFalse(TypedGeneratorRegistry.containsGenerator(CharSequence.class));
+        assertTrue(TypedGeneratorRegistry.containsGenerator(PropertyReadWrite.class));
+    }
+}
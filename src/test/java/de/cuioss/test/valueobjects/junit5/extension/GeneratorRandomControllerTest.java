@@ -0,0 +1,54 @@
+package de.cuioss.test.valueobjects.junit5.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+
+import de.cuioss.test.valueobjects.generator.GeneratorRandom;
+
+@ExtendWith(GeneratorRandomControllerTest.ExpectSeedReport.class)
+@ExtendWith(GeneratorRandomController.class)
+class GeneratorRandomControllerTest {
+
+    private static final String FAILURE = "expected failure";
+
+    @Test
+    void shouldBindRandomForTest() {
+        final var bound = GeneratorRandom.current();
+        final var previous = GeneratorRandom.bind(null);
+        try {
+            assertSame(bound, previous);
+            assertNotSame(bound, GeneratorRandom.current());
+        } finally {
+            GeneratorRandom.restore(previous);
+        }
+    }
+
+    @Test
+    void shouldAttachSeedToOriginalFailure() {
+        throw new IllegalStateException(FAILURE);
+    }
+
+    /**
+     * Verifies the failure handled by {@link GeneratorRandomController} and swallows it.
+     */
+    static class ExpectSeedReport implements TestExecutionExceptionHandler {
+
+        @Override
+        public void handleTestExecutionException(ExtensionContext context, Throwable throwable) {
+            assertInstanceOf(IllegalStateException.class, throwable);
+            assertEquals(FAILURE, throwable.getMessage());
+            assertEquals(1, throwable.getSuppressed().length);
+            final var report = throwable.getSuppressed()[0];
+            assertInstanceOf(GeneratorRandomController.SeedReport.class, report);
+            assertTrue(report.getMessage().contains(GeneratorRandom.SEED_KEY));
+        }
+    }
+}
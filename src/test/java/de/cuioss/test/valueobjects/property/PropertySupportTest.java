@@ -9,12 +9,16 @@ import static de.cuioss.test.valueobjects.testbeans.ComplexBean.ATTRIBUTE_STRING
 import static de.cuioss.test.valueobjects.testbeans.ComplexBean.ATTRIBUTE_STRING_WITH_DEFAULT;
 import static de.cuioss.tools.property.PropertyReadWrite.WRITE_ONLY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.jupiter.api.Test;
 
+import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.valueobjects.ValueObjectTest;
 import de.cuioss.test.valueobjects.api.contracts.VerifyConstructor;
 import de.cuioss.test.valueobjects.api.generator.PropertyGeneratorHint;
@@ -113,6 +117,16 @@ class PropertySupportTest extends ValueObjectTest<PropertySupport> {
                 () -> propertySupport.assertDefaultValue(target));
     }
 
+    @Test
+    void shouldCreateNonEqualBooleans() {
+        final var propertySupport = new PropertySupport(BOOLEANS.metadata(ATTRIBUTE_BOOLEAN_OBJECT));
+        propertySupport.generateTestValue();
+        for (var i = 0; i < 100; i++) {
+            assertNotEquals(propertySupport.getGeneratedValue(),
+                    propertySupport.createCopyWithNonEqualValue().getGeneratedValue());
+        }
+    }
+
     @Test
     void shouldCopyCorrecly() {
         final var support = new PropertySupport(stringProperty);
@@ -126,4 +140,30 @@ class PropertySupportTest extends ValueObjectTest<PropertySupport> {
         copy = support.createCopy(false);
         assertNull(copy.getGeneratedValue());
     }
+
+    @Test
+    void shouldRecoverFromFailedAttempt() {
+        final var value = new AtomicReference<>("fixed");
+        final var generator = new TypedGenerator<String>() {
+
+            @Override
+            public String next() {
+                return value.get();
+            }
+
+            @Override
+            public Class<String> getType() {
+                return String.class;
+            }
+        };
+        final var stuck = new PropertySupport(
+                PropertyMetadataImpl.builder().name(ATTRIBUTE_STRING).generator(generator).build());
+        stuck.setGeneratedValue("fixed");
+        assertThrows(AssertionError.class, stuck::createCopyWithNonEqualValue);
+        value.set("other");
+        assertEquals("other", stuck.createCopyWithNonEqualValue().getGeneratedValue());
+        final var fresh = new PropertySupport(stuck.getPropertyMetadata());
+        fresh.setGeneratedValue("fixed");
+        assertEquals("other", fresh.createCopyWithNonEqualValue().getGeneratedValue());
+    }
 }
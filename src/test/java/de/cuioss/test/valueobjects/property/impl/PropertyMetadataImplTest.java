@@ -3,6 +3,7 @@ package de.cuioss.test.valueobjects.property.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -102,5 +103,7 @@ class PropertyMetadataImplTest extends ValueObjectTest<PropertyMetadataImpl> {
         final PropertyMetadata meta = PropertyMetadataImpl.builder().generator(names)
                 .collectionType(CollectionType.SORTED_SET).name(names.next()).propertyClass(String.class).build();
         assertTrue(SortedSet.class.isAssignableFrom(meta.next().getClass()));
+        // Created once while building, no state is added later on
+        assertSame(meta.resolveCollectionGenerator(), meta.resolveCollectionGenerator());
     }
 }
@@ -0,0 +1,50 @@
+package de.cuioss.test.valueobjects.property.util;
+
+import static de.cuioss.tools.collect.CollectionLiterals.immutableSortedSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.valueobjects.property.impl.BuilderMetadata;
+import de.cuioss.test.valueobjects.testbeans.builder.BuilderWithCollections;
+import de.cuioss.test.valueobjects.testbeans.builder.BuilderWithCollections.BuilderWithCollectionsBuilder;
+
+class BuilderMethodTableTest {
+
+    private static final BuilderMetadata SORTED_SET =
+        (BuilderMetadata) BuilderWithCollections.METADATA_COMPLETE.get(1);
+
+    private static final BuilderMetadata COLLECTION =
+        (BuilderMetadata) BuilderWithCollections.METADATA_COMPLETE.get(2);
+
+    @Test
+    void shouldDetermineMethodsOnce() {
+        assertSame(BuilderMethodTable.lookup(BuilderWithCollectionsBuilder.class, SORTED_SET),
+                BuilderMethodTable.lookup(BuilderWithCollectionsBuilder.class, SORTED_SET));
+    }
+
+    @Test
+    void shouldResolveBuilderMethods() throws NoSuchMethodException {
+        final var methods = BuilderMethodTable.lookup(BuilderWithCollectionsBuilder.class, SORTED_SET);
+        assertEquals("stringSortedSetElement", methods.requireSingleAdd().getName());
+        assertEquals("stringSortedSetElements", methods.requireAddAll().getName());
+        assertNotNull(BuilderMethodTable.lookup(BuilderWithCollectionsBuilder.class, COLLECTION).requireDirect());
+    }
+
+    @Test
+    void shouldReportMissingMethods() {
+        final var methods = BuilderMethodTable.lookup(BuilderWithCollectionsBuilder.class, SORTED_SET);
+        assertThrows(NoSuchMethodException.class, methods::requireSingleEntry);
+    }
+
+    @Test
+    void shouldWriteAllElements() {
+        final var builder = BuilderWithCollections.builder().stringCollection(immutableSortedSet());
+        final var elements = immutableSortedSet("a", "b", "c");
+        PropertyAccessStrategy.BUILDER_COLLECTION_AND_SINGLE_ELEMENT.writeProperty(builder, SORTED_SET, elements);
+        assertEquals(elements, builder.build().getStringSortedSetElements());
+    }
+}
@@ -0,0 +1,89 @@
+package de.cuioss.test.valueobjects.property.util;
+
+import static de.cuioss.test.valueobjects.testbeans.property.BeanWithReadWriteProperties.ATTRIBUTE_READ_WRITE;
+import static de.cuioss.tools.collect.CollectionLiterals.immutableList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import de.cuioss.test.valueobjects.testbeans.ComplexBean;
+import de.cuioss.test.valueobjects.testbeans.property.BeanWithReadWriteProperties;
+import de.cuioss.tools.property.PropertyHolder;
+import de.cuioss.tools.reflect.MoreReflection;
+
+class ClassIntrospectionTest {
+
+    @Test
+    void shouldBeCreatedOncePerType() {
+        assertSame(ClassIntrospection.of(ComplexBean.class), ClassIntrospection.of(ComplexBean.class));
+    }
+
+    @Test
+    void shouldBeEquivalentToMoreReflection() {
+        assertEquivalentToMoreReflection(ComplexBean.class);
+        assertEquivalentToMoreReflection(BeanWithReadWriteProperties.class);
+    }
+
+    @Test
+    void shouldFindWriteMethods() {
+        final var introspection = ClassIntrospection.of(BeanWithReadWriteProperties.class);
+        assertEquals(MoreReflection.retrieveWriteMethod(BeanWithReadWriteProperties.class, ATTRIBUTE_READ_WRITE,
+                Integer.class), introspection.findWriteMethod(ATTRIBUTE_READ_WRITE, Integer.class));
+        assertFalse(introspection.findWriteMethod(ATTRIBUTE_READ_WRITE, String.class).isPresent());
+    }
+
+    @Test
+    void shouldFindMethods() throws NoSuchMethodException {
+        final var introspection = ClassIntrospection.of(String.class);
+        assertEquals(Optional.of(String.class.getMethod("substring", int.class, int.class)),
+                introspection.findMethod("substring", int.class, int.class));
+        assertEquals(Optional.empty(), introspection.findMethod("substring", String.class));
+        assertEquals(immutableList(), introspection.getMethods("notThere"));
+    }
+
+    @Test
+    void shouldReadAndWriteProperties() {
+        final var introspection = ClassIntrospection.of(BeanWithReadWriteProperties.class);
+        final var bean = new BeanWithReadWriteProperties();
+
+        assertSame(bean, introspection.writeProperty(bean, ATTRIBUTE_READ_WRITE, 4));
+        assertEquals(4, introspection.readProperty(bean, ATTRIBUTE_READ_WRITE));
+        introspection.writeProperty(bean, ATTRIBUTE_READ_WRITE, null);
+        assertNull(introspection.readProperty(bean, ATTRIBUTE_READ_WRITE));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> introspection.writeProperty(bean, ATTRIBUTE_READ_WRITE, "notAnInteger"));
+        assertThrows(IllegalArgumentException.class, () -> introspection.readProperty(bean, "notThere"));
+    }
+
+    @Test
+    void shouldInvokeMethods() throws NoSuchMethodException {
+        final var introspection = ClassIntrospection.of(String.class);
+        final var substring = String.class.getMethod("substring", int.class, int.class);
+
+        assertEquals("b", introspection.invoke(substring, "abc", 1, 2));
+        final var thrown = assertThrows(IllegalStateException.class,
+                () -> introspection.invoke(substring, "abc", 2, 5));
+        assertTrue(thrown.getCause() instanceof IndexOutOfBoundsException);
+    }
+
+    private static void assertEquivalentToMoreReflection(final Class<?> type) {
+        final var introspection = ClassIntrospection.of(type);
+        assertEquals(MoreReflection.retrieveAccessMethods(type), introspection.getAccessMethods());
+        for (final var method : introspection.getAccessMethods()) {
+            final var name = MoreReflection.computePropertyNameFromMethodName(method.getName());
+            assertEquals(PropertyHolder.from(type, name), introspection.getProperty(name));
+            assertEquals(MoreReflection.accessField(type, name), introspection.getField(name));
+            assertEquals(new ArrayList<>(MoreReflection.retrieveWriteMethodCandidates(type, name)),
+                    introspection.getWriteMethodCandidates(name));
+        }
+    }
+}
@@ -6,7 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.Test;
 
@@ -84,4 +87,15 @@ class CollectionAssertsTest {
         final List<String> list2 = immutableList("a", "b", "c");
         assertThrows(AssertionError.class, () -> assertListsAreEqualIgnoringOrder("propertyName", list2, list1));
     }
+
+    @Test
+    void shouldCompareMapsIgnoringOrder() {
+        final Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("b", 2);
+        expected.put("a", 1);
+        final Map<String, Integer> actual = new TreeMap<>(expected);
+        assertListsAreEqualIgnoringOrder("propertyName", expected, actual);
+        actual.put("a", 3);
+        assertThrows(AssertionError.class, () -> assertListsAreEqualIgnoringOrder("propertyName", expected, actual));
+    }
 }
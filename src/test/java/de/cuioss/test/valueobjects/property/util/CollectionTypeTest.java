@@ -2,26 +2,37 @@ package de.cuioss.test.valueobjects.property.util;
 
 import static de.cuioss.test.valueobjects.property.util.CollectionType.COLLECTION;
 import static de.cuioss.test.valueobjects.property.util.CollectionType.LIST;
+import static de.cuioss.test.valueobjects.property.util.CollectionType.MAP;
 import static de.cuioss.test.valueobjects.property.util.CollectionType.SET;
+import static de.cuioss.test.valueobjects.property.util.CollectionType.SORTED_MAP;
 import static de.cuioss.test.valueobjects.property.util.CollectionType.SORTED_SET;
 import static de.cuioss.test.valueobjects.property.util.CollectionType.findResponsibleCollectionType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.junit.jupiter.api.Test;
 
 import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.impl.CollectionGenerator;
+import de.cuioss.test.valueobjects.generator.dynamic.impl.MapEntryGenerator;
 
 class CollectionTypeTest {
 
@@ -65,6 +76,50 @@ class CollectionTypeTest {
         assertEquals(COLLECTION, findResponsibleCollectionType(Collection.class).get());
     }
 
+    @Test
+    void shouldFindMapPerType() {
+        assertEquals(MAP, findResponsibleCollectionType(Map.class).get());
+        assertEquals(SORTED_MAP, findResponsibleCollectionType(SortedMap.class).get());
+        assertEquals(SORTED_MAP, findResponsibleCollectionType(NavigableMap.class).get());
+        assertFalse(findResponsibleCollectionType(ConcurrentMap.class).isPresent());
+        assertFalse(findResponsibleCollectionType(HashMap.class).isPresent());
+        assertTrue(MAP.isMapType());
+        assertFalse(LIST.isMapType());
+        assertEquals(Map.class, MAP.getContainerType());
+        assertEquals(List.class, LIST.getContainerType());
+    }
+
+    @Test
+    void shouldCreatePopulatedMaps() {
+        final var entries = new CollectionGenerator<>(
+                new MapEntryGenerator(Generators.letterStrings(), Generators.integers()));
+        final var map = (Map<?, ?>) MAP.next(entries);
+        assertTrue(map instanceof LinkedHashMap);
+        assertFalse(map.isEmpty());
+        map.forEach((key, value) -> {
+            assertTrue(key instanceof String);
+            assertTrue(value instanceof Integer);
+        });
+        assertTrue(SORTED_MAP.next(entries) instanceof TreeMap);
+        assertTrue(SORTED_MAP.wrapToMap(map) instanceof TreeMap);
+        assertEquals(map, MAP.wrapToMap(map));
+        assertThrows(IllegalArgumentException.class, () -> MAP.next(generator));
+    }
+
+    @Test
+    void shouldProvideEntryViewForMaps() {
+        final var entries = new CollectionGenerator<>(
+                new MapEntryGenerator(Generators.letterStrings(), Generators.integers()));
+        assertEquals(Set.class, MAP.getIterableType());
+        final var iterable = MAP.nextIterable(entries);
+        iterable.forEach(element -> assertTrue(element instanceof Entry));
+        assertEquals(iterable, MAP.wrapToIterable(iterable));
+        assertEquals(iterable, SORTED_MAP.wrapToIterable(iterable));
+        assertFalse(SORTED_MAP.emptyCollection().iterator().hasNext());
+        assertThrows(IllegalArgumentException.class, () -> MAP.wrapToIterable(generator.list()));
+        assertThrows(UnsupportedOperationException.class, () -> LIST.wrapToMap(new HashMap<>()));
+    }
+
     @Test
     void shouldIgnoreIterable() {
         assertFalse(findResponsibleCollectionType(Iterable.class).isPresent());
@@ -0,0 +1,91 @@
+package de.cuioss.test.valueobjects.property.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class DistinctValueSamplerTest {
+
+    @Test
+    void shouldCreateDistinctValue() {
+        final var sampler = new DistinctValueSampler();
+        final var counter = new AtomicInteger();
+        assertEquals(1, sampler.nextDistinctFrom(counter::incrementAndGet, 0, "test"));
+        assertEquals(1, sampler.getHitRatio());
+    }
+
+    @Test
+    void shouldReturnFreshlyDrawnValues() {
+        final var sampler = new DistinctValueSampler();
+        final var lastDrawn = new AtomicReference<List<String>>();
+        final var draws = new AtomicInteger();
+        final Supplier<List<String>> source = () -> {
+            final List<String> next = new ArrayList<>();
+            next.add(0 == draws.getAndIncrement() % 2 ? "a" : "b");
+            lastDrawn.set(next);
+            return next;
+        };
+        for (var i = 0; i < 10; i++) {
+            final var distinct = sampler.nextDistinctFrom(source, List.of("b"), "test");
+            assertEquals(List.of("a"), distinct);
+            assertSame(lastDrawn.get(), distinct);
+        }
+    }
+
+    @Test
+    void shouldReportExhaustedSource() {
+        final var sampler = new DistinctValueSampler();
+        final var draws = new AtomicInteger();
+        final Supplier<String> fixed = () -> {
+            draws.incrementAndGet();
+            return "fixed";
+        };
+        assertThrows(AssertionError.class, () -> sampler.nextDistinctFrom(fixed, "fixed", "test"));
+        assertEquals(DistinctValueSampler.ENTROPY_GUARD, draws.get());
+        assertEquals(0, sampler.getHitRatio());
+        // Not sticky: A source starting to produce distinct values is accepted again
+        assertEquals("other", sampler.nextDistinctFrom(() -> "other", "fixed", "test"));
+    }
+
+    @Test
+    void shouldAdaptAttemptsToHitRatio() {
+        final var sampler = new DistinctValueSampler();
+        assertEquals(DistinctValueSampler.ENTROPY_GUARD, sampler.getAttempts());
+        final var draws = new AtomicInteger();
+        // Only every 10th value is distinct
+        final Supplier<Integer> rare = () -> draws.incrementAndGet() % 10 == 0 ? 1 : 0;
+        for (var i = 0; i < 10; i++) {
+            assertEquals(1, sampler.nextDistinctFrom(rare, 0, "test"));
+        }
+        assertEquals(0.1, sampler.getHitRatio(), 0.001);
+        assertEquals(200, sampler.getAttempts());
+    }
+
+    @Test
+    void shouldHandleLowEntropy() {
+        final var sampler = new DistinctValueSampler();
+        final var random = new Random(42L);
+        final var draws = new AtomicInteger();
+        final Supplier<Boolean> source = () -> {
+            draws.incrementAndGet();
+            return random.nextBoolean();
+        };
+        for (var i = 0; i < 100; i++) {
+            final Boolean value = random.nextBoolean();
+            assertNotEquals(value, sampler.nextDistinctFrom(source, value, "test"));
+        }
+        assertTrue(draws.get() >= 100);
+        assertEquals(DistinctValueSampler.ENTROPY_GUARD, sampler.getAttempts());
+    }
+}
@@ -0,0 +1,46 @@
+package de.cuioss.test.valueobjects.testbeans.builder;
+
+import static de.cuioss.test.generator.Generators.letterStrings;
+import static de.cuioss.tools.collect.CollectionLiterals.immutableSortedSet;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedSet;
+
+import de.cuioss.test.valueobjects.generator.dynamic.impl.MapEntryGenerator;
+import de.cuioss.test.valueobjects.property.PropertyMetadata;
+import de.cuioss.test.valueobjects.property.impl.BuilderMetadata;
+import de.cuioss.test.valueobjects.property.impl.PropertyMetadataImpl;
+import de.cuioss.test.valueobjects.property.util.CollectionType;
+import de.cuioss.test.valueobjects.property.util.PropertyAccessStrategy;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+
+@SuppressWarnings("javadoc")
+@EqualsAndHashCode
+@ToString
+@Builder
+public class LombokBasedMapBuilder implements Serializable {
+
+    private static final long serialVersionUID = -2934127763096470219L;
+
+    public static final SortedSet<PropertyMetadata> METADATA_COMPLETE =
+        immutableSortedSet(
+                BuilderMetadata.builder().delegateMetadata(
+                        PropertyMetadataImpl.builder().name("entries").propertyClass(Entry.class)
+                                .generator(new MapEntryGenerator(letterStrings(), letterStrings()))
+                                .required(false).collectionType(CollectionType.MAP)
+                                .propertyAccessStrategy(PropertyAccessStrategy.BUILDER_COLLECTION_AND_SINGLE_ELEMENT)
+                                .build())
+                        .builderSingleAddMethodName("entry")
+                        .build());
+
+    @Singular
+    @Getter
+    private final Map<String, String> entries;
+
+}
@@ -0,0 +1,21 @@
+package de.cuioss.test.valueobjects.testbeans.constructor;
+
+import java.io.Serializable;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@SuppressWarnings("javadoc")
+@RequiredArgsConstructor
+@Getter
+public class BeanWithPrimitiveArgumentConstructor implements Serializable {
+
+    private static final long serialVersionUID = 4418950234729562120L;
+
+    private final int intValue;
+    private final long longValue;
+    private final double doubleValue;
+    private final boolean booleanValue;
+    private final char charValue;
+    private final Integer integerObject;
+}
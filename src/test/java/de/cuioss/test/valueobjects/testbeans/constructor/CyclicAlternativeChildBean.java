@@ -0,0 +1,24 @@
+package de.cuioss.test.valueobjects.testbeans.constructor;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+@SuppressWarnings("javadoc")
+public class CyclicAlternativeChildBean {
+
+    @Getter
+    private final CyclicAlternativeParentBean parent;
+
+    @Getter
+    private final BeanWithSingleArgumentConstructor sibling;
+
+    public CyclicAlternativeChildBean(@NonNull final CyclicAlternativeParentBean parent) {
+        this.parent = parent;
+        sibling = null;
+    }
+
+    public CyclicAlternativeChildBean(final BeanWithSingleArgumentConstructor sibling, final int ignored) {
+        parent = null;
+        this.sibling = sibling;
+    }
+}
@@ -0,0 +1,12 @@
+package de.cuioss.test.valueobjects.testbeans.constructor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@SuppressWarnings("javadoc")
+@RequiredArgsConstructor
+public class CyclicChildBean {
+
+    @Getter
+    private final CyclicParentBean parent;
+}
@@ -0,0 +1,14 @@
+package de.cuioss.test.valueobjects.testbeans.constructor;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@SuppressWarnings("javadoc")
+@RequiredArgsConstructor
+public class CyclicNonNullParentBean {
+
+    @Getter
+    @NonNull
+    private final CyclicNonNullChildBean child;
+}
@@ -0,0 +1,27 @@
+package de.cuioss.test.valueobjects.testbeans.factory;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+
+@SuppressWarnings("javadoc")
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BuilderOnlyBean {
+
+    @Getter
+    @NonNull
+    private final String name;
+
+    @Getter
+    private final int count;
+
+    @Getter
+    @Singular
+    private final List<String> tags;
+}
@@ -0,0 +1,19 @@
+package de.cuioss.test.valueobjects.testbeans.factory;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@SuppressWarnings("javadoc")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class GenericFactoryOnlyBean {
+
+    @Getter
+    private final List<Integer> values;
+
+    public static GenericFactoryOnlyBean of(final List<Integer> values) {
+        return new GenericFactoryOnlyBean(values);
+    }
+}
@@ -0,0 +1,22 @@
+package de.cuioss.test.valueobjects.testbeans.factory;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@SuppressWarnings("javadoc")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StaticFactoryOnlyBean {
+
+    @Getter
+    private final int value;
+
+    /** Fails for random strings, therefore {@link #valueOf(int)} is to be used */
+    public static StaticFactoryOnlyBean of(final String value) {
+        return new StaticFactoryOnlyBean(Integer.parseInt(value));
+    }
+
+    public static StaticFactoryOnlyBean valueOf(final int value) {
+        return new StaticFactoryOnlyBean(value);
+    }
+}
@@ -0,0 +1,17 @@
+package de.cuioss.test.valueobjects.testbeans.property;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@SuppressWarnings({ "javadoc", "squid:S3553" }) // Optional fields are the actual test
+public class BeanWithOptional implements Serializable {
+
+    private static final long serialVersionUID = 5064226380574411829L;
+
+    @Getter
+    @Setter
+    private transient Optional<Integer> number;
+}
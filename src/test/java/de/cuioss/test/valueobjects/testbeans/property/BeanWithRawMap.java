@@ -0,0 +1,17 @@
+package de.cuioss.test.valueobjects.testbeans.property;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@SuppressWarnings({ "javadoc", "rawtypes" })
+public class BeanWithRawMap implements Serializable {
+
+    private static final long serialVersionUID = -3218479135468217455L;
+
+    @Getter
+    @Setter
+    private Map raw;
+}
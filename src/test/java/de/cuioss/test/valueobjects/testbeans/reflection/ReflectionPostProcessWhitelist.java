@@ -0,0 +1,12 @@
+package de.cuioss.test.valueobjects.testbeans.reflection;
+
+import static de.cuioss.test.valueobjects.testbeans.property.BeanWithReadWriteProperties.ATTRIBUTE_READ_ONLY;
+import static de.cuioss.test.valueobjects.testbeans.property.BeanWithReadWriteProperties.ATTRIBUTE_READ_WRITE;
+
+import de.cuioss.test.valueobjects.api.property.PropertyReflectionConfig;
+
+@SuppressWarnings("javadoc")
+@PropertyReflectionConfig(of = { ATTRIBUTE_READ_ONLY, ATTRIBUTE_READ_WRITE })
+public class ReflectionPostProcessWhitelist {
+
+}
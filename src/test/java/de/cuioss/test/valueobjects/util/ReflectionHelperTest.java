@@ -12,21 +12,26 @@ import static de.cuioss.test.valueobjects.util.ReflectionHelper.handlePropertyMe
 import static de.cuioss.test.valueobjects.util.ReflectionHelper.scanBeanTypeForProperties;
 import static de.cuioss.test.valueobjects.util.ReflectionHelper.shouldScanClass;
 import static de.cuioss.tools.collect.CollectionLiterals.immutableList;
+import static de.cuioss.tools.collect.CollectionLiterals.immutableSet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import de.cuioss.test.generator.Generators;
 import de.cuioss.test.valueobjects.api.property.PropertyReflectionConfig;
 import de.cuioss.test.valueobjects.generator.TypedGeneratorRegistry;
 import de.cuioss.test.valueobjects.property.PropertyMetadata;
@@ -36,13 +41,16 @@ import de.cuioss.test.valueobjects.testbeans.ComplexBean;
 import de.cuioss.test.valueobjects.testbeans.beanproperty.BeanWithStringArray;
 import de.cuioss.test.valueobjects.testbeans.property.BeanWithNestedGenerics;
 import de.cuioss.test.valueobjects.testbeans.property.BeanWithNestedGenericsButFiltered;
+import de.cuioss.test.valueobjects.testbeans.property.BeanWithOptional;
 import de.cuioss.test.valueobjects.testbeans.property.BeanWithPrimitiveByteArray;
+import de.cuioss.test.valueobjects.testbeans.property.BeanWithRawMap;
 import de.cuioss.test.valueobjects.testbeans.property.BeanWithReadWriteProperties;
 import de.cuioss.test.valueobjects.testbeans.property.PropertyReflectionShouldNotSkip;
 import de.cuioss.test.valueobjects.testbeans.property.PropertyReflectionShouldSkip;
 import de.cuioss.test.valueobjects.testbeans.reflection.GenericTypeWithLowerBoundType;
 import de.cuioss.test.valueobjects.testbeans.reflection.ReflectionPostProcessComplex;
 import de.cuioss.test.valueobjects.testbeans.reflection.ReflectionPostProcessMinimal;
+import de.cuioss.test.valueobjects.testbeans.reflection.ReflectionPostProcessWhitelist;
 import de.cuioss.test.valueobjects.testbeans.reflection.StringTypedGenericType;
 import de.cuioss.tools.property.PropertyMemberInfo;
 import de.cuioss.tools.property.PropertyReadWrite;
@@ -140,6 +148,31 @@ class ReflectionHelperTest {
         assertFalse(type.isDefaultValue());
     }
 
+    @Test
+    void shouldReuseScannedProperties() {
+        assertSame(scanBeanTypeForProperties(ComplexBean.class, null),
+                scanBeanTypeForProperties(ComplexBean.class, null));
+    }
+
+    @Test
+    void shouldBindGeneratorsLazily() {
+        final var scanned = scanBeanTypeForProperties(BeanWithReadWriteProperties.class, null);
+        TypedGeneratorRegistry.registerGenerator(Generators.fixedValues(String.class, "fixed"));
+
+        assertSame(scanned, scanBeanTypeForProperties(BeanWithReadWriteProperties.class, null));
+        assertEquals("fixed",
+                PropertyHelper.toMapView(scanned).get(ATTRIBUTE_READ_ONLY).getGenerator().next());
+    }
+
+    @Test
+    void shouldFilterBeforeScanning() {
+        final var scanned = scanBeanTypeForProperties(BeanWithReadWriteProperties.class,
+                MoreReflection.extractAnnotation(ReflectionPostProcessWhitelist.class, PropertyReflectionConfig.class)
+                        .get());
+        assertEquals(immutableSet(ATTRIBUTE_READ_ONLY, ATTRIBUTE_READ_WRITE),
+                PropertyHelper.toMapView(scanned).keySet());
+    }
+
     @Test
     void handlePostProcessShouldIgnoreOnEmpty() {
         final var scanned = scanBeanTypeForProperties(BeanWithReadWriteProperties.class, null);
@@ -175,9 +208,30 @@ class ReflectionHelperTest {
     }
 
     @Test
-    void shouldFailOnNestedGenerics() {
-        assertThrows(IllegalStateException.class,
-                () -> scanBeanTypeForProperties(BeanWithNestedGenerics.class, null));
+    void shouldResolveNestedGenerics() {
+        final var nested = scanBeanTypeForProperties(BeanWithNestedGenerics.class, null).stream()
+                .filter(p -> "nested".equals(p.getName())).findFirst().get();
+        assertEquals(CollectionType.LIST, nested.getCollectionType());
+        assertEquals(List.class, nested.getPropertyClass());
+        final var element = (List<?>) nested.getGenerator().next();
+        assertFalse(element.isEmpty());
+        assertEquals(String.class, element.get(0).getClass());
+    }
+
+    @Test
+    void shouldResolveByGenericType() {
+        final var number = scanBeanTypeForProperties(BeanWithOptional.class, null).first();
+        assertEquals(Optional.class, number.getPropertyClass());
+        for (var i = 0; i < 20; i++) {
+            ((Optional<?>) number.next()).ifPresent(value -> assertEquals(Integer.class, value.getClass()));
+        }
+    }
+
+    @Test
+    void shouldGenerateEmptyRawMaps() {
+        final var raw = scanBeanTypeForProperties(BeanWithRawMap.class, null).first();
+        assertEquals(CollectionType.NO_ITERABLE, raw.getCollectionType());
+        assertTrue(((Map<?, ?>) raw.next()).isEmpty());
     }
 
     @Test